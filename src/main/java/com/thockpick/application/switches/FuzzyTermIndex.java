@@ -0,0 +1,128 @@
+package com.thockpick.application.switches;
+
+import com.thockpick.global.util.EditDistance;
+import com.thockpick.global.util.HangulUtils;
+
+import java.util.*;
+
+/**
+ * 오타 교정용 용어 사전 (불변)
+ * - 용어를 소문자 + 한글 자모 분해 형태로 저장 (예: "홀리판다" → "ㅎㅗㄹㄹㅣㅍㅏㄴㄷㅏ")
+ * - 자모 bigram 역색인으로 후보를 먼저 거른 뒤, 후보에 대해서만 편집 거리 계산
+ *   (편집 1회는 bigram 을 최대 2개 바꾸므로, 공유 bigram 수로 안전하게 걸러낼 수 있음)
+ */
+final class FuzzyTermIndex {
+
+    private static final char BOUNDARY = '\u0001'; // 단어 앞뒤 경계 (짧은 용어도 bigram 이 생기도록)
+
+    private final String[] terms;                 // 원문 (교정 결과로 반환)
+    private final String[] jamoTerms;             // 소문자 + 자모 분해
+    private final Map<String, Integer> exact;     // 자모 형태 -> 용어 번호
+    private final Map<String, int[]> postings;    // bigram -> 용어 번호 목록
+
+    private FuzzyTermIndex(String[] terms, String[] jamoTerms, Map<String, Integer> exact, Map<String, int[]> postings) {
+        this.terms = terms;
+        this.jamoTerms = jamoTerms;
+        this.exact = exact;
+        this.postings = postings;
+    }
+
+    /**
+     * @param terms 용어 목록 (앞쪽 용어가 동점일 때 우선)
+     */
+    static FuzzyTermIndex build(Collection<String> terms) {
+        List<String> originals = new ArrayList<>();
+        List<String> jamos = new ArrayList<>();
+        Map<String, Integer> exact = new HashMap<>();
+        Map<String, List<Integer>> postings = new HashMap<>();
+
+        for (String term : terms) {
+            if (term == null || term.isBlank()) continue;
+            String jamo = normalize(term);
+            if (exact.putIfAbsent(jamo, originals.size()) != null) continue;
+
+            int id = originals.size();
+            originals.add(term);
+            jamos.add(jamo);
+            for (String bigram : bigrams(jamo)) {
+                postings.computeIfAbsent(bigram, k -> new ArrayList<>()).add(id);
+            }
+        }
+
+        Map<String, int[]> compact = new HashMap<>();
+        postings.forEach((bigram, ids) -> compact.put(bigram, ids.stream().mapToInt(Integer::intValue).toArray()));
+
+        return new FuzzyTermIndex(originals.toArray(String[]::new), jamos.toArray(String[]::new),
+                Map.copyOf(exact), Map.copyOf(compact));
+    }
+
+    boolean contains(String word) {
+        return exact.containsKey(normalize(word));
+    }
+
+    /**
+     * 허용 편집 거리 안에서 가장 가까운 용어 (없으면 null)
+     * - 거리가 같으면 길이 차이가 작은 용어, 그다음 먼저 등록된 용어
+     */
+    String closest(String word) {
+        String query = normalize(word);
+        int maxDistance = maxDistance(query.length());
+        Set<String> queryBigrams = bigrams(query);
+
+        // 1. bigram 공유 개수로 후보 필터링
+        int minShared = queryBigrams.size() - 2 * maxDistance;
+        int[] shared = new int[terms.length];
+        for (String bigram : queryBigrams) {
+            int[] ids = postings.get(bigram);
+            if (ids == null) continue;
+            for (int id : ids) shared[id]++;
+        }
+
+        // 2. 후보만 자모 단위 편집 거리 계산
+        String best = null;
+        int bestDistance = maxDistance + 1;
+        int bestLengthGap = Integer.MAX_VALUE;
+        for (int id = 0; id < terms.length; id++) {
+            if (shared[id] == 0 || shared[id] < minShared) continue;
+
+            String candidate = jamoTerms[id];
+            int lengthGap = Math.abs(candidate.length() - query.length());
+            if (lengthGap > maxDistance) continue;
+
+            int distance = EditDistance.bounded(query, candidate, Math.min(maxDistance, bestDistance));
+            if (distance > maxDistance) continue;
+            if (distance < bestDistance || (distance == bestDistance && lengthGap < bestLengthGap)) {
+                best = terms[id];
+                bestDistance = distance;
+                bestLengthGap = lengthGap;
+            }
+        }
+        return best;
+    }
+
+    int size() {
+        return terms.length;
+    }
+
+    /**
+     * 길이에 따른 허용 편집 거리 (짧은 단어는 1회, 긴 단어는 최대 3회)
+     */
+    private static int maxDistance(int jamoLength) {
+        if (jamoLength <= 4) return 1;
+        if (jamoLength <= 9) return 2;
+        return 3;
+    }
+
+    private static String normalize(String word) {
+        return HangulUtils.toJamo(word.trim().toLowerCase());
+    }
+
+    private static Set<String> bigrams(String jamo) {
+        String padded = BOUNDARY + jamo + BOUNDARY;
+        Set<String> bigrams = new HashSet<>();
+        for (int i = 0; i + 1 < padded.length(); i++) {
+            bigrams.add(padded.substring(i, i + 2));
+        }
+        return bigrams;
+    }
+}
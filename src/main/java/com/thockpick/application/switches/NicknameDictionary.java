@@ -0,0 +1,67 @@
+package com.thockpick.application.switches;
+
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+
+/**
+ * 별명 사전 (불변)
+ * - 별명 -> 공식 키워드 역방향 사전으로 검색어 확장에 사용
+ * - 사전에 등록된 모든 별명은 자동완성/오타 교정 사전에 사용
+ */
+final class NicknameDictionary {
+
+    private final int ruleCount;
+    private final Set<String> allNicknames;
+    private final Map<String, List<String>> keywordsByNickname; // 소문자 별명 -> 공식 키워드
+
+    private NicknameDictionary(int ruleCount, Set<String> allNicknames, Map<String, List<String>> keywordsByNickname) {
+        this.ruleCount = ruleCount;
+        this.allNicknames = allNicknames;
+        this.keywordsByNickname = keywordsByNickname;
+    }
+
+    /**
+     * 규칙 목록으로 사전 생성
+     *
+     * @param keywords  규칙별 키워드 (비어 있는 키워드 규칙은 역조회되지 않음)
+     * @param nicknames 규칙별 별명 목록 (keywords 와 같은 순서)
+     */
+    static NicknameDictionary compile(List<String> keywords, List<List<String>> nicknames) {
+        Set<String> allNicknames = new LinkedHashSet<>();
+        Map<String, Set<String>> keywordsByNickname = new HashMap<>();
+        for (int rule = 0; rule < nicknames.size(); rule++) {
+            List<String> ruleNicknames = nicknames.get(rule) == null ? List.of() : nicknames.get(rule);
+            allNicknames.addAll(ruleNicknames);
+
+            // 별명 -> 규칙 키워드 (규칙 순서 유지)
+            String keyword = keywords.get(rule);
+            if (!StringUtils.hasText(keyword)) continue;
+            for (String nickname : ruleNicknames) {
+                keywordsByNickname.computeIfAbsent(nickname.toLowerCase(), k -> new LinkedHashSet<>()).add(keyword);
+            }
+        }
+
+        Map<String, List<String>> immutableKeywords = new HashMap<>();
+        keywordsByNickname.forEach((nickname, ruleKeywords) -> immutableKeywords.put(nickname, List.copyOf(ruleKeywords)));
+
+        return new NicknameDictionary(nicknames.size(), Collections.unmodifiableSet(allNicknames),
+                Map.copyOf(immutableKeywords));
+    }
+
+    /**
+     * 별명에 해당하는 공식 키워드 목록 (대소문자 무시, 없으면 빈 목록)
+     * 예: "갈축" → ["MX Brown", "Brown"]
+     */
+    List<String> keywordsFor(String nickname) {
+        return keywordsByNickname.getOrDefault(nickname.toLowerCase(), List.of());
+    }
+
+    Set<String> allNicknames() {
+        return allNicknames;
+    }
+
+    int ruleCount() {
+        return ruleCount;
+    }
+}
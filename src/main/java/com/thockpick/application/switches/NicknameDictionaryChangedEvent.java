@@ -0,0 +1,15 @@
+package com.thockpick.application.switches;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 별명 사전 교체 이벤트
+ * (사전 파일 변경 감지 → 새 매처로 교체된 뒤 발행, 검색 캐시/자동완성 등이 새 사전 기준으로 갱신)
+ */
+@Getter
+@RequiredArgsConstructor
+public class NicknameDictionaryChangedEvent {
+
+    private final int ruleCount; // 교체된 사전의 규칙 개수
+}
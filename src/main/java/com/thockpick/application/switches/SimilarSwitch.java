@@ -0,0 +1,16 @@
+package com.thockpick.application.switches;
+
+import com.thockpick.domain.switches.SwitchSummary;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 비슷한 스위치 추천 항목 (similarity: 코사인 유사도, 1에 가까울수록 비슷함)
+ */
+@Getter
+@AllArgsConstructor
+public class SimilarSwitch {
+
+    private final SwitchSummary switchSummary;
+    private final double similarity;
+}
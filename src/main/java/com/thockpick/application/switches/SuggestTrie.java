@@ -0,0 +1,165 @@
+package com.thockpick.application.switches;
+
+import com.thockpick.global.util.HangulUtils;
+
+import java.util.*;
+
+/**
+ * 자동완성용 불변 트라이
+ * - 자식 노드를 정렬된 char 배열로 보관 (HashMap 노드 대비 메모리 절약, 이진 탐색)
+ * - 각 노드에 상위 K개 제안을 미리 계산해 두어 조회는 접두어 길이만큼의 탐색으로 끝남
+ * - 항목 번호가 곧 우선순위 (먼저 추가된 항목이 앞)
+ */
+final class SuggestTrie {
+
+    private final char[][] childChars;
+    private final int[][] childNodes;
+    private final int[][] topEntries;
+    private final List<SwitchSuggestion> entries;
+    private final List<String> entryKeys;
+
+    private SuggestTrie(char[][] childChars, int[][] childNodes, int[][] topEntries,
+                        List<SwitchSuggestion> entries, List<String> entryKeys) {
+        this.childChars = childChars;
+        this.childNodes = childNodes;
+        this.topEntries = topEntries;
+        this.entries = entries;
+        this.entryKeys = entryKeys;
+    }
+
+    /**
+     * 접두어에 해당하는 노드의 제안 목록 (없으면 빈 배열)
+     */
+    int[] lookup(String prefix) {
+        int node = 0;
+        for (int i = 0; i < prefix.length(); i++) {
+            int index = Arrays.binarySearch(childChars[node], prefix.charAt(i));
+            if (index < 0) {
+                return new int[0];
+            }
+            node = childNodes[node][index];
+        }
+        return topEntries[node];
+    }
+
+    /**
+     * 초성이 섞인 접두어의 제안 목록 (예: "갈ㅊ" → "갈" 다음 글자의 초성이 ㅊ 인 모든 경로)
+     * - 초성 글자는 같은 초성의 음절 자식(정렬된 배열의 연속 구간)과 초성 글자 자체로 분기
+     * - 도달한 노드들의 상위 K개를 항목 번호 순으로 합침 (전체 상위 K개는 각 노드 상위 K개의 합집합 안에 있음)
+     * - 분기로 늘어나는 노드 수는 maxNodes 로 제한
+     */
+    int[] lookupMixed(String prefix, int maxNodes) {
+        List<Integer> frontier = List.of(0);
+        for (int i = 0; i < prefix.length() && !frontier.isEmpty(); i++) {
+            char c = prefix.charAt(i);
+            char first = HangulUtils.firstSyllableOf(c);
+            List<Integer> next = new ArrayList<>();
+            for (int node : frontier) {
+                char[] chars = childChars[node];
+                int exact = Arrays.binarySearch(chars, c);
+                if (exact >= 0) {
+                    next.add(childNodes[node][exact]);
+                }
+                if (first == 0) continue;
+
+                char last = HangulUtils.lastSyllableOf(c);
+                int from = Arrays.binarySearch(chars, first);
+                for (int j = from >= 0 ? from : -from - 1; j < chars.length && chars[j] <= last; j++) {
+                    next.add(childNodes[node][j]);
+                }
+            }
+            frontier = next.size() > maxNodes ? next.subList(0, maxNodes) : next;
+        }
+
+        TreeSet<Integer> merged = new TreeSet<>();
+        for (int node : frontier) {
+            for (int entry : topEntries[node]) {
+                merged.add(entry);
+            }
+        }
+        return merged.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    SwitchSuggestion entry(int index) {
+        return entries.get(index);
+    }
+
+    /**
+     * 제안 항목의 정규화된 원문 (초성 혼합 입력 검증용)
+     */
+    String entryKey(int index) {
+        return entryKeys.get(index);
+    }
+
+    /**
+     * 빌더: 제안을 우선순위 순서대로 추가해야 함 (먼저 추가된 항목이 각 노드의 상위 K개를 차지)
+     */
+    static final class Builder {
+
+        private final int topK;
+        private final List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        private final List<List<Integer>> tops = new ArrayList<>();
+        private final List<SwitchSuggestion> entries = new ArrayList<>();
+        private final List<String> entryKeys = new ArrayList<>();
+
+        Builder(int topK) {
+            this.topK = topK;
+            newNode();
+        }
+
+        /**
+         * @param suggestion 제안 항목
+         * @param entryKey   제안 항목의 정규화된 원문
+         * @param indexKeys  이 항목을 찾을 수 있는 키 목록 (원문, 초성, 단어 시작 접미사 등)
+         */
+        void add(SwitchSuggestion suggestion, String entryKey, Collection<String> indexKeys) {
+            int entryIndex = entries.size();
+            entries.add(suggestion);
+            entryKeys.add(entryKey);
+
+            for (String key : indexKeys) {
+                int node = 0;
+                offer(node, entryIndex);
+                for (int i = 0; i < key.length(); i++) {
+                    node = children.get(node).computeIfAbsent(key.charAt(i), c -> newNode());
+                    offer(node, entryIndex);
+                }
+            }
+        }
+
+        SuggestTrie build() {
+            int size = children.size();
+            char[][] childChars = new char[size][];
+            int[][] childNodes = new int[size][];
+            int[][] topEntries = new int[size][];
+
+            for (int node = 0; node < size; node++) {
+                TreeMap<Character, Integer> nodeChildren = children.get(node);
+                childChars[node] = new char[nodeChildren.size()];
+                childNodes[node] = new int[nodeChildren.size()];
+                int i = 0;
+                for (Map.Entry<Character, Integer> child : nodeChildren.entrySet()) {
+                    childChars[node][i] = child.getKey();
+                    childNodes[node][i] = child.getValue();
+                    i++;
+                }
+                topEntries[node] = tops.get(node).stream().mapToInt(Integer::intValue).toArray();
+            }
+            return new SuggestTrie(childChars, childNodes, topEntries, List.copyOf(entries), List.copyOf(entryKeys));
+        }
+
+        private void offer(int node, int entryIndex) {
+            List<Integer> top = tops.get(node);
+            // 같은 항목이 여러 키로 같은 노드를 지날 수 있으므로 마지막 항목만 비교해 중복 방지
+            if (top.size() < topK && (top.isEmpty() || top.get(top.size() - 1) != entryIndex)) {
+                top.add(entryIndex);
+            }
+        }
+
+        private int newNode() {
+            children.add(new TreeMap<>());
+            tops.add(new ArrayList<>());
+            return children.size() - 1;
+        }
+    }
+}
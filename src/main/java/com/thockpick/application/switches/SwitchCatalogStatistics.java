@@ -0,0 +1,64 @@
+package com.thockpick.application.switches;
+
+import com.thockpick.domain.switches.SwitchCatalogChangedEvent;
+import com.thockpick.domain.switches.SwitchFacets;
+import com.thockpick.domain.switches.SwitchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카탈로그 통계 스냅샷 (홈 화면/통계 API용)
+ * - 전체/타입별/제조사별/카테고리별 개수를 GROUP BY 한 번으로 계산해 불변 스냅샷으로 보관
+ * - 동기화 완료 시에만 다시 계산하므로 요청당 DB 쿼리 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SwitchCatalogStatistics {
+
+    private final SwitchRepository switchRepository;
+
+    private volatile SwitchFacets snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    @EventListener(SwitchCatalogChangedEvent.class)
+    public void onCatalogChanged() {
+        refresh();
+    }
+
+    /**
+     * 현재 스냅샷 (기동 직후 계산 전이라면 한 번만 계산)
+     */
+    public SwitchFacets getSnapshot() {
+        SwitchFacets current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    snapshot = compute();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    public void refresh() {
+        try {
+            snapshot = compute();
+            log.info("카탈로그 통계 갱신 완료: 전체 {}개", snapshot.getTotal());
+        } catch (Exception e) {
+            log.warn("카탈로그 통계 갱신 실패 (기존 스냅샷 유지): {}", e.getMessage());
+        }
+    }
+
+    private SwitchFacets compute() {
+        return SwitchFacets.fromCounts(switchRepository.countFacets(null, null));
+    }
+}
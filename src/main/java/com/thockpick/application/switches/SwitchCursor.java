@@ -0,0 +1,47 @@
+package com.thockpick.application.switches;
+
+import com.thockpick.domain.switches.SwitchSummary;
+import com.thockpick.global.exception.BusinessException;
+import com.thockpick.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이지네이션 커서
+ * - 마지막으로 내려준 스위치의 (name, id)를 Base64 URL-safe 문자열로 감싸 클라이언트에는 불투명하게 전달
+ */
+@Getter
+@RequiredArgsConstructor
+public class SwitchCursor {
+
+    private static final String SEPARATOR = ":";
+
+    private final String name;
+    private final Long id;
+
+    public static SwitchCursor from(SwitchSummary summary) {
+        return new SwitchCursor(summary.getName(), summary.getId());
+    }
+
+    public String encode() {
+        String raw = id + SEPARATOR + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws BusinessException 형식이 잘못된 커서인 경우
+     */
+    public static SwitchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            Long id = Long.valueOf(raw.substring(0, separatorIndex));
+            return new SwitchCursor(raw.substring(separatorIndex + 1), id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 커서입니다: " + cursor);
+        }
+    }
+}
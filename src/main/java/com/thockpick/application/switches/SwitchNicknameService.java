@@ -3,24 +3,47 @@ package com.thockpick.application.switches;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.io.InputStream;
+import java.nio.file.*;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
+/**
+ * 스위치 별명 사전
+ * - 기본은 classpath 의 data/switch_nicknames.json
+ * - nickname.dictionary.path 가 지정되면 외부 파일을 사용하고, 파일 변경 시 재배포 없이 다시 로드
+ *   (백그라운드 스레드에서 새 사전을 만든 뒤 통째로 교체 → NicknameDictionaryChangedEvent 발행)
+ * - 별명은 색인하지 않고 검색 시점에 공식 키워드로 확장 (expand)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SwitchNicknameService {
 
+    private static final String CLASSPATH_DICTIONARY = "data/switch_nicknames.json";
+    private static final long RELOAD_DEBOUNCE_MILLIS = 500;
+
     private final ObjectMapper objectMapper;
-    private List<NicknameRule> rules = new ArrayList<>();
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${nickname.dictionary.path:}")
+    private String dictionaryPath;
+
+    private volatile NicknameDictionary dictionary = NicknameDictionary.compile(List.of(), List.of());
+    private WatchService watchService;
 
     @Getter
     static class NicknameRule {
@@ -31,24 +54,151 @@ public class SwitchNicknameService {
     @PostConstruct
     public void init() {
         try {
-            ClassPathResource resource = new ClassPathResource("data/switch_nicknames.json");
-            rules = objectMapper.readValue(resource.getInputStream(), new TypeReference<List<NicknameRule>>() {});
-        } catch (IOException e) {
+            dictionary = loadDictionary();
+            log.info("별명 규칙 {}개 로드 완료", dictionary.ruleCount());
+        } catch (IOException | RuntimeException e) {
             log.warn("별명 데이터 로드 실패: {}", e.getMessage());
         }
+
+        if (StringUtils.hasText(dictionaryPath)) {
+            startWatching(Path.of(dictionaryPath).toAbsolutePath());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    /**
+     * 사전을 다시 읽어 교체 (읽기/파싱 실패 시 기존 사전 유지)
+     * - 형식이 잘못된 파일(null, nicknames 없는 규칙 등)도 기존 사전 유지
+     * - 변경 이벤트 리스너가 실패해도 예외를 밖으로 던지지 않음 (감시 스레드 유지)
+     */
+    public void reload() {
+        NicknameDictionary reloaded;
+        try {
+            reloaded = loadDictionary();
+        } catch (IOException | RuntimeException e) {
+            log.warn("별명 사전 재로드 실패 (기존 사전 유지): {}", e.getMessage());
+            return;
+        }
+
+        dictionary = reloaded;
+        log.info("별명 사전 재로드 완료: 규칙 {}개", reloaded.ruleCount());
+        try {
+            eventPublisher.publishEvent(new NicknameDictionaryChangedEvent(reloaded.ruleCount()));
+        } catch (RuntimeException e) {
+            log.error("별명 사전 변경 이벤트 처리 실패", e);
+        }
     }
 
-    // 스위치 이름에 키워드가 포함되어 있으면 별명 리스트 반환
-    public List<String> getNicknames(String switchName) {
-        if (switchName == null) return Collections.emptyList();
-        List<String> result = new ArrayList<>();
-        String lowerName = switchName.toLowerCase();
+    /**
+     * 검색어 확장: 검색어(전체, 공백 제거, 공백 단위 토큰)에 포함된 별명을 공식 키워드로 변환
+     * 예: "적축 저소음" → ["Red"], "저적" → ["Silent Red"], "갈축" → ["MX Brown", "Brown"]
+     * (색인 시점이 아닌 조회 시점에 적용하므로 사전이 바뀌어도 재색인 불필요)
+     */
+    public List<String> expand(String query) {
+        if (!StringUtils.hasText(query)) return Collections.emptyList();
 
-        for (NicknameRule rule : rules) {
-            if (lowerName.contains(rule.getKeyword().toLowerCase())) {
-                result.addAll(rule.getNicknames());
+        NicknameDictionary current = dictionary;
+        String trimmed = query.trim();
+        Set<String> keywords = new LinkedHashSet<>(current.keywordsFor(trimmed));
+        keywords.addAll(current.keywordsFor(trimmed.replaceAll("\\s+", "")));
+        for (String token : trimmed.split("\\s+")) {
+            keywords.addAll(current.keywordsFor(token));
+        }
+        return List.copyOf(keywords);
+    }
+
+    // 사전에 등록된 모든 별명 (중복 제거, 자동완성 색인용)
+    public Set<String> getAllNicknames() {
+        return dictionary.allNicknames();
+    }
+
+    private NicknameDictionary loadDictionary() throws IOException {
+        List<NicknameRule> rules;
+        try (InputStream in = openDictionary()) {
+            rules = objectMapper.readValue(in, new TypeReference<List<NicknameRule>>() {});
+        }
+
+        if (rules == null || rules.stream().anyMatch(rule -> rule == null
+                || !StringUtils.hasText(rule.getKeyword()) || rule.getNicknames() == null)) {
+            throw new IOException("별명 사전 형식 오류: 모든 규칙에 keyword 와 nicknames 가 필요합니다.");
+        }
+
+        return NicknameDictionary.compile(
+                rules.stream().map(NicknameRule::getKeyword).toList(),
+                rules.stream().map(NicknameRule::getNicknames).toList());
+    }
+
+    private InputStream openDictionary() throws IOException {
+        if (StringUtils.hasText(dictionaryPath) && Files.isRegularFile(Path.of(dictionaryPath))) {
+            return Files.newInputStream(Path.of(dictionaryPath));
+        }
+        return new ClassPathResource(CLASSPATH_DICTIONARY).getInputStream();
+    }
+
+    /**
+     * 사전 파일이 있는 디렉터리를 감시 (에디터의 임시 파일 교체 저장도 잡도록 디렉터리 단위로 등록)
+     */
+    private void startWatching(Path file) {
+        Path directory = file.getParent();
+        if (directory == null || !Files.isDirectory(directory)) {
+            log.warn("별명 사전 디렉터리가 없어 변경 감시를 건너뜀: {}", file);
+            return;
+        }
+
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            log.warn("별명 사전 변경 감시 등록 실패: {}", e.getMessage());
+            return;
+        }
+
+        Thread watcher = new Thread(() -> watch(file), "nickname-dictionary-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        log.info("별명 사전 변경 감시 시작: {}", file);
+    }
+
+    private void watch(Path file) {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = key.pollEvents().stream()
+                        .map(event -> event.context())
+                        .anyMatch(context -> context instanceof Path path && path.equals(file.getFileName()));
+                key.reset();
+
+                if (changed) {
+                    // 저장 도중의 연속 이벤트를 한 번으로 묶음
+                    Thread.sleep(RELOAD_DEBOUNCE_MILLIS);
+                    drainPendingEvents();
+                    try {
+                        reload();
+                    } catch (RuntimeException e) {
+                        // 감시 스레드가 죽으면 이후 변경을 다시 반영하지 못하므로 계속 감시
+                        log.error("별명 사전 재로드 중 오류 (감시 계속)", e);
+                    }
+                }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // 종료 시 정상 경로
+        }
+    }
+
+    private void drainPendingEvents() {
+        WatchKey pending;
+        while ((pending = watchService.poll()) != null) {
+            pending.pollEvents();
+            pending.reset();
         }
-        return result;
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,27 @@
 package com.thockpick.application.switches;
 
 import com.thockpick.domain.switches.Switch;
+import com.thockpick.domain.switches.SwitchCatalogChangedEvent;
+import com.thockpick.domain.switches.SwitchFacets;
 import com.thockpick.domain.switches.SwitchRepository;
+import com.thockpick.domain.switches.SwitchSummary;
 import com.thockpick.domain.switches.SwitchType;
+import com.thockpick.global.config.CacheConfig;
+import com.thockpick.global.exception.BusinessException;
+import com.thockpick.global.exception.ErrorCode;
 import com.thockpick.infrastructure.search.document.SwitchDocument;
-import com.thockpick.infrastructure.search.repository.SwitchSearchRepository;
+import com.thockpick.infrastructure.search.service.SwitchSearchGateway;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,113 +41,117 @@ import jakarta.persistence.criteria.Predicate;
 @Transactional(readOnly = true)
 public class SwitchService {
 
+    // 무한 스크롤 한 번에 조회할 수 있는 최대 개수
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final SwitchRepository switchRepository;            // MariaDB
-    private final SwitchSearchRepository searchRepository;      // Elasticsearch
+    private final SwitchSearchGateway searchGateway;            // Elasticsearch (장애 시 메모리 폴백)
 
     /**
-     * 스위치 목록 통합 검색 (ES + MariaDB 하이브리드)
+     * 스위치 목록 통합 검색 (키워드: Elasticsearch 단독 / 필터만: MariaDB)
      *
      * @param type     스위치 타입 (null이면 전체)
      * @param keyword  검색 키워드 (null/empty면 전체)
-     * @param pageable 페이징 정보
-     * @return 필터링된 스위치 목록 Page 객체
+     * @param pageable 페이징 정보 (키워드 검색 시 정렬은 무시하고 관련도 순)
+     * @return 필터링된 스위치 요약 Page 객체 (동기화 전까지 캐시, ES 장애 중 폴백 결과는 캐시하지 않음)
      */
-    public Page<Switch> searchSwitches(SwitchType type, String manufacturer, String keyword, Pageable pageable) {
+    @Cacheable(cacheNames = CacheConfig.SWITCH_SEARCH, keyGenerator = "switchSearchKeyGenerator",
+            unless = "#result instanceof T(com.thockpick.infrastructure.search.fallback.FallbackSearchResult)")
+    public Page<SwitchSummary> searchSwitches(SwitchType type, String manufacturer, String keyword, Pageable pageable) {
 
-        // 검색어(keyword)가 있는 경우: Elasticsearch 사용
+        // 검색어(keyword)가 있는 경우: Elasticsearch만 사용 (필터/페이징/목록 필드 모두 ES 문서에서 처리)
         if (StringUtils.hasText(keyword)) {
+            return searchGateway.searchByKeyword(keyword, type, manufacturer, pageable)
+                    .map(SwitchDocument::toSummary);
+        }
 
-            // ES에서 검색 수행 (이름 OR 별명 OR 카테고리)
-            // 1. nicknames에서 정확 매칭 (Keyword 타입)
-            List<SwitchDocument> nicknameResults = searchRepository.findByNicknames(keyword);
-
-            // 2. name에서 형태소 분석 매칭 (Text 타입)
-            List<SwitchDocument> nameResults = searchRepository.findByName(keyword);
-
-            // 3. category에서 형태소 분석 매칭 (Text 타입)
-            List<SwitchDocument> categoryResults = searchRepository.findByCategory(keyword);
-
-            // 결과 합치기 (중복 제거)
-            List<SwitchDocument> esResults = new java.util.ArrayList<>();
-            esResults.addAll(nicknameResults);
-            nameResults.stream()
-                    .filter(doc -> esResults.stream().noneMatch(existing -> existing.getId().equals(doc.getId())))
-                    .forEach(esResults::add);
-            categoryResults.stream()
-                    .filter(doc -> esResults.stream().noneMatch(existing -> existing.getId().equals(doc.getId())))
-                    .forEach(esResults::add);
-
-            if (esResults.isEmpty()) {
-                return Page.empty(pageable); // 검색 결과가 없으면 빈 페이지 반환
-            }
-
-            // 검색된 문서들의 ID 추출
-            List<Long> switchIds = esResults.stream()
-                    .map(SwitchDocument::getId)
-                    .toList();
-
-            // 추출한 ID로 MariaDB 조회 (Specification 구성)
-            Specification<Switch> spec = (root, query, criteriaBuilder) -> {
-                List<Predicate> predicates = new ArrayList<>();
-
-                // ES에서 찾은 ID들에 해당하는 데이터만 가져오기
-                predicates.add(root.get("id").in(switchIds));
-
-                // 나머지 필터 조건 (타입, 제조사) 추가 적용
-                if (type != null) {
-                    predicates.add(criteriaBuilder.equal(root.get("type"), type));
-                }
-                if (StringUtils.hasText(manufacturer)) {
-                    predicates.add(criteriaBuilder.equal(root.get("manufacturer"), manufacturer));
-                }
-
-                return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
-            };
+        // 검색어가 없는 경우: MariaDB 필터링 (목록 컬럼만 조회, 엔티티 로딩 없음)
+        return switchRepository.findSummaries(filterSpec(type, manufacturer), pageable);
+    }
 
-            return switchRepository.findAll(spec, pageable);
+    /**
+     * 현재 조건의 패싯 개수 (타입/제조사/카테고리)
+     * - 키워드 있음: ES terms 집계 1회
+     * - 키워드 없음: MariaDB GROUP BY 1회
+     * (버킷마다 COUNT 쿼리를 날리지 않음, ES 장애 중 폴백 결과는 캐시하지 않음)
+     */
+    @Cacheable(cacheNames = CacheConfig.SWITCH_FACETS, keyGenerator = "switchSearchKeyGenerator",
+            unless = "#result instanceof T(com.thockpick.infrastructure.search.fallback.FallbackSearchResult)")
+    public SwitchFacets getFacets(SwitchType type, String manufacturer, String keyword) {
+        if (StringUtils.hasText(keyword)) {
+            return searchGateway.aggregateFacets(keyword, type, manufacturer);
         }
+        String manufacturerFilter = StringUtils.hasText(manufacturer) ? manufacturer : null;
+        return SwitchFacets.fromCounts(switchRepository.countFacets(type, manufacturerFilter));
+    }
 
-        // 검색어가 없는 경우: 기존 MariaDB 필터링만 수행
-        else {
-            Specification<Switch> spec = (root, query, criteriaBuilder) -> {
-                List<Predicate> predicates = new ArrayList<>();
+    /**
+     * 스위치 목록 키셋(seek) 조회 (무한 스크롤용, COUNT 쿼리 없음)
+     * WHERE name >= :name AND (name > :name OR id > :id) ORDER BY name, id LIMIT size + 1
+     * → idx_switch_name (name + PK) 인덱스를 타고 이어서 읽으므로 깊은 페이지도 비용이 일정
+     *
+     * @param after 이전 조회의 마지막 위치 (null이면 처음부터)
+     * @param size  조회 개수 (1 ~ MAX_SCROLL_SIZE)
+     * @return 다음 데이터 존재 여부를 포함한 Slice
+     */
+    public Slice<SwitchSummary> scrollSwitches(SwitchType type, String manufacturer, SwitchCursor after, int size) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "조회 개수는 1 ~ " + MAX_SCROLL_SIZE + " 사이여야 합니다.");
+        }
 
-                if (type != null) {
-                    predicates.add(criteriaBuilder.equal(root.get("type"), type));
-                }
-                if (StringUtils.hasText(manufacturer)) {
-                    predicates.add(criteriaBuilder.equal(root.get("manufacturer"), manufacturer));
-                }
+        Specification<Switch> spec = filterSpec(type, manufacturer);
+        if (after != null) {
+            spec = spec.and((root, query, criteriaBuilder) -> criteriaBuilder.and(
+                    criteriaBuilder.greaterThanOrEqualTo(root.<String>get("name"), after.getName()),
+                    criteriaBuilder.or(
+                            criteriaBuilder.greaterThan(root.<String>get("name"), after.getName()),
+                            criteriaBuilder.greaterThan(root.<Long>get("id"), after.getId()))));
+        }
 
-                // (keyword 조건은 여기서 빠짐)
+        // 한 건 더 읽어서 다음 데이터 존재 여부 판단 (목록 컬럼만 조회)
+        List<SwitchSummary> summaries = switchRepository.findSummaries(spec,
+                Sort.by(Sort.Direction.ASC, "name", "id"), size + 1);
 
-                return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
-            };
+        boolean hasNext = summaries.size() > size;
+        List<SwitchSummary> content = hasNext ? summaries.subList(0, size) : summaries;
 
-            return switchRepository.findAll(spec, pageable);
-        }
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
     }
 
     /**
-     * 스위치 상세 조회
+     * 타입/제조사 필터 조건
      */
-    public Switch findSwitchById(Long id) {
-        return switchRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("스위치를 찾을 수 없습니다: " + id));
+    private Specification<Switch> filterSpec(SwitchType type, String manufacturer) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (type != null) {
+                predicates.add(criteriaBuilder.equal(root.get("type"), type));
+            }
+            if (StringUtils.hasText(manufacturer)) {
+                predicates.add(criteriaBuilder.equal(root.get("manufacturer"), manufacturer));
+            }
+
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
     }
 
     /**
-     * 전체 스위치 개수 조회
+     * 동기화 완료 / 별명 사전 교체 시 검색 결과 캐시 전체 무효화
      */
-    public long countAllSwitches() {
-        return switchRepository.count();
+    @EventListener({SwitchCatalogChangedEvent.class, NicknameDictionaryChangedEvent.class})
+    @CacheEvict(cacheNames = {CacheConfig.SWITCH_SEARCH, CacheConfig.SWITCH_FACETS}, allEntries = true)
+    public void evictSearchCache() {
+        log.info("스위치 검색 캐시 무효화");
     }
 
     /**
-     * 타입별 스위치 개수 조회 (최적화: COUNT 쿼리 사용)
+     * 스위치 상세 조회
      */
-    public long countByType(SwitchType type) {
-        return switchRepository.countByType(type);
+    public Switch findSwitchById(Long id) {
+        return switchRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("스위치를 찾을 수 없습니다: " + id));
     }
 
 }
@@ -0,0 +1,249 @@
+package com.thockpick.application.switches;
+
+import com.thockpick.domain.switches.Switch;
+import com.thockpick.domain.switches.SwitchCatalogChangedEvent;
+import com.thockpick.domain.switches.SwitchRepository;
+import com.thockpick.domain.switches.SwitchSummary;
+import com.thockpick.domain.switches.SwitchType;
+import com.thockpick.global.enums.SoundProfile;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+/**
+ * 비슷한 스위치 추천 인덱스
+ * - 스위치마다 스펙 특성 벡터를 만들고 (수치 스펙 정규화 + 타입/소리 특성 원-핫 + 하우징/스템 소재 토큰) 단위 벡터로 정규화
+ * - 동기화 완료 시 모든 스위치의 top-K 이웃을 fork-join 으로 병렬 계산해 불변 맵으로 보관 (조회는 맵 조회 한 번)
+ * - 전체 쌍 비교(O(n²))라 변경 이벤트에서는 전용 스레드로 넘기고, 짧은 시간 안에 연달아 온 변경은 한 번만 재계산
+ *   (행 단위 동기화가 이어져도 요청 스레드를 막지 않음, 그동안 조회는 기존 맵 사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SwitchSimilarityIndex {
+
+    private static final int TOP_K = 10;
+    private static final long REBUILD_DELAY_MILLIS = 2_000;
+
+    // 수치 스펙 (무게는 정보가 드물어 제외)
+    private static final SwitchSpec[] NUMERIC_SPECS = {
+            SwitchSpec.ACTUATION_FORCE, SwitchSpec.BOTTOM_OUT_FORCE,
+            SwitchSpec.TRAVEL_DISTANCE, SwitchSpec.PRE_TRAVEL, SwitchSpec.PRICE
+    };
+
+    // 특성 그룹별 가중치
+    private static final float NUMERIC_WEIGHT = 1.0f;
+    private static final float TYPE_WEIGHT = 1.5f;
+    private static final float SOUND_WEIGHT = 0.5f;
+    private static final float MATERIAL_WEIGHT = 0.5f;
+
+    private final SwitchRepository switchRepository;
+
+    // 재계산 전용 (스케줄 스레드 1개 + 병렬 계산 풀은 앱 수명 동안 재사용)
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "switch-similarity");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+
+    private volatile Map<Long, List<SimilarSwitch>> neighbours = Map.of();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @EventListener(SwitchCatalogChangedEvent.class)
+    public void onCatalogChanged() {
+        scheduleRebuild();
+    }
+
+    /**
+     * REBUILD_DELAY_MILLIS 뒤 재계산 예약 (이미 예약돼 있으면 그 재계산에 합침)
+     */
+    public void scheduleRebuild() {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(() -> {
+                rebuildScheduled.set(false);
+                rebuild();
+            }, REBUILD_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    /**
+     * 전체 스위치의 top-K 이웃 재계산 (동시에 하나만 실행)
+     */
+    public synchronized void rebuild() {
+        try {
+            List<Switch> switches = switchRepository.findAll();
+            float[][] vectors = vectorize(switches);
+            List<SwitchSummary> summaries = switches.stream().map(SwitchSummary::from).toList();
+
+            List<List<SimilarSwitch>> topK = pool.submit(() -> IntStream.range(0, vectors.length)
+                    .parallel()
+                    .mapToObj(row -> nearest(row, vectors, summaries))
+                    .toList()).get();
+
+            Map<Long, List<SimilarSwitch>> rebuilt = new HashMap<>();
+            for (int row = 0; row < switches.size(); row++) {
+                rebuilt.put(switches.get(row).getId(), topK.get(row));
+            }
+
+            neighbours = Map.copyOf(rebuilt);
+            log.info("비슷한 스위치 인덱스 재구성 완료: {}건", rebuilt.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RuntimeException e) {
+            log.warn("비슷한 스위치 인덱스 재구성 실패 (기존 인덱스 유지): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 비슷한 스위치 (유사도 내림차순, 없으면 빈 목록)
+     */
+    public List<SimilarSwitch> findSimilar(Long switchId, int limit) {
+        List<SimilarSwitch> similar = neighbours.getOrDefault(switchId, List.of());
+        return similar.subList(0, Math.min(Math.max(limit, 0), similar.size()));
+    }
+
+    /**
+     * 한 행의 top-K (내적 = 코사인 유사도, 작은 min-heap 유지)
+     */
+    private static List<SimilarSwitch> nearest(int row, float[][] vectors, List<SwitchSummary> summaries) {
+        PriorityQueue<float[]> heap = new PriorityQueue<>(TOP_K + 1, Comparator.comparingDouble((float[] entry) -> entry[1]));
+        float[] target = vectors[row];
+
+        for (int other = 0; other < vectors.length; other++) {
+            if (other == row) continue;
+            float score = dot(target, vectors[other]);
+            if (heap.size() < TOP_K) {
+                heap.add(new float[]{other, score});
+            } else if (score > heap.peek()[1]) {
+                heap.poll();
+                heap.add(new float[]{other, score});
+            }
+        }
+
+        List<SimilarSwitch> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            float[] entry = heap.poll();
+            result.add(new SimilarSwitch(summaries.get((int) entry[0]), entry[1]));
+        }
+        Collections.reverse(result);
+        return List.copyOf(result);
+    }
+
+    private static float dot(float[] a, float[] b) {
+        float sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    /**
+     * 특성 벡터 생성 (행 순서 = switches 순서)
+     * - 수치: (값 - 평균) / (최대 - 최소), 값이 없으면 0 (평균으로 간주)
+     * - 범주: 원-핫 (소재는 "/", "," 등으로 나뉜 토큰 단위)
+     */
+    private static float[][] vectorize(List<Switch> switches) {
+        // 1. 소재 토큰 사전
+        Map<String, Integer> materialSlots = new LinkedHashMap<>();
+        for (Switch switchEntity : switches) {
+            for (String token : materialTokens(switchEntity)) {
+                materialSlots.putIfAbsent(token, materialSlots.size());
+            }
+        }
+
+        // 2. 수치 스펙 통계
+        int numericCount = NUMERIC_SPECS.length;
+        double[] sums = new double[numericCount];
+        int[] counts = new int[numericCount];
+        double[] mins = new double[numericCount];
+        double[] maxs = new double[numericCount];
+        Arrays.fill(mins, Double.MAX_VALUE);
+        Arrays.fill(maxs, -Double.MAX_VALUE);
+        for (Switch switchEntity : switches) {
+            for (int i = 0; i < numericCount; i++) {
+                Integer value = NUMERIC_SPECS[i].scaledValueOf(switchEntity);
+                if (value == null) continue;
+                sums[i] += value;
+                counts[i]++;
+                mins[i] = Math.min(mins[i], value);
+                maxs[i] = Math.max(maxs[i], value);
+            }
+        }
+
+        int typeOffset = numericCount;
+        int soundOffset = typeOffset + SwitchType.values().length;
+        int materialOffset = soundOffset + SoundProfile.values().length;
+        int dimension = materialOffset + materialSlots.size();
+
+        float[][] vectors = new float[switches.size()][dimension];
+        for (int row = 0; row < switches.size(); row++) {
+            Switch switchEntity = switches.get(row);
+            float[] vector = vectors[row];
+
+            for (int i = 0; i < numericCount; i++) {
+                Integer value = NUMERIC_SPECS[i].scaledValueOf(switchEntity);
+                double range = maxs[i] - mins[i];
+                if (value == null || range <= 0) continue;
+                vector[i] = (float) ((value - sums[i] / counts[i]) / range * NUMERIC_WEIGHT);
+            }
+            if (switchEntity.getType() != null) {
+                vector[typeOffset + switchEntity.getType().ordinal()] = TYPE_WEIGHT;
+            }
+            if (switchEntity.getSoundProfile() != null) {
+                vector[soundOffset + switchEntity.getSoundProfile().ordinal()] = SOUND_WEIGHT;
+            }
+            for (String token : materialTokens(switchEntity)) {
+                vector[materialOffset + materialSlots.get(token)] = MATERIAL_WEIGHT;
+            }
+
+            normalize(vector);
+        }
+        return vectors;
+    }
+
+    private static Set<String> materialTokens(Switch switchEntity) {
+        Set<String> tokens = new LinkedHashSet<>();
+        addMaterialTokens(tokens, "housing:", switchEntity.getHousingMaterial());
+        addMaterialTokens(tokens, "stem:", switchEntity.getStemMaterial());
+        return tokens;
+    }
+
+    private static void addMaterialTokens(Set<String> tokens, String prefix, String material) {
+        if (material == null) return;
+        for (String token : material.toLowerCase().split("[/,+&\\s]+")) {
+            if (!token.isEmpty()) tokens.add(prefix + token);
+        }
+    }
+
+    private static void normalize(float[] vector) {
+        double norm = Math.sqrt(dot(vector, vector));
+        if (norm == 0) return;
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] /= (float) norm;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.thockpick.application.switches;
+
+import com.thockpick.domain.switches.Switch;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.function.Function;
+
+/**
+ * 범위 필터/히스토그램 대상 수치 스펙
+ * - 메모리 인덱스에는 scale 을 곱한 정수로 저장 (예: 이동거리 4.0mm → 40)
+ * - bucketWidth 는 저장 단위 기준 히스토그램 구간 폭
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SwitchSpec {
+    ACTUATION_FORCE(1, 5, Switch::getActuationForce),    // 입력압 (g), 5g 구간
+    BOTTOM_OUT_FORCE(1, 5, Switch::getBottomOutForce),   // 바닥압 (g), 5g 구간
+    TRAVEL_DISTANCE(10, 1, Switch::getTravelDistance),   // 총 이동거리 (mm), 0.1mm 구간
+    PRE_TRAVEL(10, 1, Switch::getPreTravel),             // 입력 지점 (mm), 0.1mm 구간
+    PRICE(1, 100, Switch::getPrice),                     // 가격 (원), 100원 구간
+    WEIGHT(1, 5, Switch::getWeight);                     // 무게, 5 단위 구간
+
+    private final int scale;
+    private final int bucketWidth;
+    private final Function<Switch, Number> extractor;
+
+    /**
+     * 저장용 정수 값 (값이 없으면 null)
+     */
+    Integer scaledValueOf(Switch switchEntity) {
+        Number value = extractor.apply(switchEntity);
+        if (value == null) return null;
+        if (value instanceof BigDecimal decimal) {
+            return decimal.multiply(BigDecimal.valueOf(scale)).intValue();
+        }
+        return value.intValue() * scale;
+    }
+
+    /**
+     * 저장용 정수 -> 원래 단위
+     */
+    BigDecimal unscale(int value) {
+        return BigDecimal.valueOf(value).divide(BigDecimal.valueOf(scale));
+    }
+}
@@ -0,0 +1,48 @@
+package com.thockpick.application.switches;
+
+import com.thockpick.domain.switches.SwitchType;
+import com.thockpick.global.enums.SoundProfile;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * 스펙 검색 조건 (동등 조건 + 수치 범위 조건, 모두 AND)
+ * 예: 리니어 + 입력압 35~45g + 가격 700원 이하
+ */
+@Getter
+@Builder
+public class SwitchSpecFilter {
+
+    private final SwitchType type;
+    private final String manufacturer;
+    private final SoundProfile soundProfile;
+
+    @Singular
+    private final Map<SwitchSpec, Range> ranges;
+
+    /**
+     * 닫힌 구간 [min, max] (null 이면 해당 방향 제한 없음)
+     */
+    @Getter
+    public static class Range {
+        private final BigDecimal min;
+        private final BigDecimal max;
+
+        private Range(BigDecimal min, BigDecimal max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        public static Range of(BigDecimal min, BigDecimal max) {
+            return new Range(min, max);
+        }
+
+        public boolean isUnbounded() {
+            return min == null && max == null;
+        }
+    }
+}
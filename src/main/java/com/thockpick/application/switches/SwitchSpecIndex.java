@@ -0,0 +1,222 @@
+package com.thockpick.application.switches;
+
+import com.thockpick.domain.switches.Switch;
+import com.thockpick.domain.switches.SwitchCatalogChangedEvent;
+import com.thockpick.domain.switches.SwitchRepository;
+import com.thockpick.domain.switches.SwitchType;
+import com.thockpick.global.enums.SoundProfile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+
+/**
+ * 스펙 범위 필터용 메모리 컬럼 인덱스
+ * - 스펙별 int[] 컬럼 + 타입/제조사/소리 특성별 BitSet 으로 카탈로그 전체를 보관 (행 번호 = 이름순)
+ * - 범위 조건은 컬럼을 순차 스캔해 BitSet 으로 만들고, 모든 조건을 BitSet AND 로 결합
+ * - 동기화 완료 시 새 스냅샷을 만든 뒤 참조만 교체 (조회 쪽은 락 없음, 슬라이더 조작마다 DB 스캔 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SwitchSpecIndex {
+
+    private static final int MISSING = Integer.MIN_VALUE; // 값이 없는 칸 (범위 조건에서는 항상 불일치)
+
+    private final SwitchRepository switchRepository;
+
+    private volatile Snapshot snapshot = Snapshot.build(List.of());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @EventListener(SwitchCatalogChangedEvent.class)
+    public void onCatalogChanged() {
+        rebuild();
+    }
+
+    /**
+     * 전체 스위치로 컬럼 인덱스 재구성
+     */
+    public void rebuild() {
+        try {
+            Snapshot rebuilt = Snapshot.build(switchRepository.findAll(Sort.by("name", "id")));
+            snapshot = rebuilt;
+            log.info("스펙 인덱스 재구성 완료: {}건", rebuilt.ids.length);
+        } catch (Exception e) {
+            log.warn("스펙 인덱스 재구성 실패 (기존 인덱스 유지): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 조건에 맞는 ID + 스펙별 히스토그램
+     */
+    public SwitchSpecResult search(SwitchSpecFilter filter) {
+        Snapshot current = snapshot;
+
+        // 1. 동등 조건 (타입/제조사/소리 특성)
+        BitSet base = new BitSet(current.ids.length);
+        base.set(0, current.ids.length);
+        if (filter.getType() != null) {
+            base.and(current.types.getOrDefault(filter.getType(), new BitSet()));
+        }
+        if (StringUtils.hasText(filter.getManufacturer())) {
+            base.and(current.manufacturers.getOrDefault(filter.getManufacturer(), new BitSet()));
+        }
+        if (filter.getSoundProfile() != null) {
+            base.and(current.soundProfiles.getOrDefault(filter.getSoundProfile(), new BitSet()));
+        }
+
+        // 2. 범위 조건 (스펙별 BitSet)
+        Map<SwitchSpec, BitSet> rangeBits = new EnumMap<>(SwitchSpec.class);
+        filter.getRanges().forEach((spec, range) -> {
+            if (range != null && !range.isUnbounded()) {
+                rangeBits.put(spec, current.scanRange(spec, range));
+            }
+        });
+
+        BitSet matched = (BitSet) base.clone();
+        rangeBits.values().forEach(matched::and);
+
+        // 3. 히스토그램 (자기 자신의 범위 조건만 빼고 결합)
+        Map<SwitchSpec, SwitchSpecResult.Histogram> histograms = new EnumMap<>(SwitchSpec.class);
+        for (SwitchSpec spec : SwitchSpec.values()) {
+            BitSet rows = matched;
+            if (rangeBits.containsKey(spec)) {
+                rows = (BitSet) base.clone();
+                for (Map.Entry<SwitchSpec, BitSet> entry : rangeBits.entrySet()) {
+                    if (entry.getKey() != spec) rows.and(entry.getValue());
+                }
+            }
+            histograms.put(spec, current.histogram(spec, rows));
+        }
+
+        List<Long> ids = new ArrayList<>(matched.cardinality());
+        for (int row = matched.nextSetBit(0); row >= 0; row = matched.nextSetBit(row + 1)) {
+            ids.add(current.ids[row]);
+        }
+        return new SwitchSpecResult(ids.size(), ids, histograms);
+    }
+
+    /**
+     * 불변 컬럼 스냅샷
+     */
+    private static final class Snapshot {
+
+        private final long[] ids;
+        private final int[][] columns;     // [spec.ordinal()][row]
+        private final int[] minValues;     // 스펙별 최솟값 (히스토그램 시작점, 값이 없으면 0)
+        private final int[] maxValues;
+        private final Map<SwitchType, BitSet> types;
+        private final Map<String, BitSet> manufacturers;
+        private final Map<SoundProfile, BitSet> soundProfiles;
+
+        private Snapshot(long[] ids, int[][] columns, int[] minValues, int[] maxValues, Map<SwitchType, BitSet> types,
+                         Map<String, BitSet> manufacturers, Map<SoundProfile, BitSet> soundProfiles) {
+            this.ids = ids;
+            this.columns = columns;
+            this.minValues = minValues;
+            this.maxValues = maxValues;
+            this.types = types;
+            this.manufacturers = manufacturers;
+            this.soundProfiles = soundProfiles;
+        }
+
+        private static Snapshot build(List<Switch> switches) {
+            SwitchSpec[] specs = SwitchSpec.values();
+            int rowCount = switches.size();
+
+            long[] ids = new long[rowCount];
+            int[][] columns = new int[specs.length][rowCount];
+            int[] minValues = new int[specs.length];
+            int[] maxValues = new int[specs.length];
+            Arrays.fill(minValues, Integer.MAX_VALUE);
+            Arrays.fill(maxValues, Integer.MIN_VALUE);
+            Map<SwitchType, BitSet> types = new EnumMap<>(SwitchType.class);
+            Map<String, BitSet> manufacturers = new HashMap<>();
+            Map<SoundProfile, BitSet> soundProfiles = new EnumMap<>(SoundProfile.class);
+
+            for (int row = 0; row < rowCount; row++) {
+                Switch switchEntity = switches.get(row);
+                ids[row] = switchEntity.getId();
+
+                for (SwitchSpec spec : specs) {
+                    Integer value = spec.scaledValueOf(switchEntity);
+                    int column = spec.ordinal();
+                    columns[column][row] = value == null ? MISSING : value;
+                    if (value != null) {
+                        minValues[column] = Math.min(minValues[column], value);
+                        maxValues[column] = Math.max(maxValues[column], value);
+                    }
+                }
+
+                if (switchEntity.getType() != null) {
+                    types.computeIfAbsent(switchEntity.getType(), k -> new BitSet(rowCount)).set(row);
+                }
+                if (switchEntity.getManufacturer() != null) {
+                    manufacturers.computeIfAbsent(switchEntity.getManufacturer(), k -> new BitSet(rowCount)).set(row);
+                }
+                if (switchEntity.getSoundProfile() != null) {
+                    soundProfiles.computeIfAbsent(switchEntity.getSoundProfile(), k -> new BitSet(rowCount)).set(row);
+                }
+            }
+
+            for (int column = 0; column < specs.length; column++) {
+                if (minValues[column] > maxValues[column]) {
+                    minValues[column] = 0;
+                    maxValues[column] = 0;
+                }
+            }
+
+            return new Snapshot(ids, columns, minValues, maxValues, types, Map.copyOf(manufacturers), soundProfiles);
+        }
+
+        /**
+         * 범위 조건을 만족하는 행 (컬럼 순차 스캔)
+         */
+        private BitSet scanRange(SwitchSpec spec, SwitchSpecFilter.Range range) {
+            int low = range.getMin() == null ? Integer.MIN_VALUE + 1 : toScaled(spec, range.getMin(), RoundingMode.CEILING);
+            int high = range.getMax() == null ? Integer.MAX_VALUE : toScaled(spec, range.getMax(), RoundingMode.FLOOR);
+
+            int[] column = columns[spec.ordinal()];
+            BitSet rows = new BitSet(column.length);
+            for (int row = 0; row < column.length; row++) {
+                int value = column[row];
+                if (value >= low && value <= high) rows.set(row);
+            }
+            return rows;
+        }
+
+        private SwitchSpecResult.Histogram histogram(SwitchSpec spec, BitSet rows) {
+            int column = spec.ordinal();
+            int width = spec.getBucketWidth();
+            int start = Math.floorDiv(minValues[column], width) * width;
+            long[] counts = new long[(maxValues[column] - start) / width + 1];
+
+            int[] values = columns[column];
+            for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+                if (values[row] != MISSING) {
+                    counts[(values[row] - start) / width]++;
+                }
+            }
+            return new SwitchSpecResult.Histogram(spec.unscale(start), spec.unscale(width), counts);
+        }
+
+        private static int toScaled(SwitchSpec spec, BigDecimal value, RoundingMode roundingMode) {
+            long scaled = value.multiply(BigDecimal.valueOf(spec.getScale())).setScale(0, roundingMode)
+                    .max(BigDecimal.valueOf(Integer.MIN_VALUE + 1L))
+                    .min(BigDecimal.valueOf(Integer.MAX_VALUE))
+                    .longValue();
+            return (int) scaled;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.thockpick.application.switches;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스펙 검색 결과
+ * - ids: 조건을 모두 만족하는 스위치 ID (이름순)
+ * - histograms: 스펙별 분포 (해당 스펙 자신의 범위 조건은 제외하고 계산 → 슬라이더를 움직여도 축이 유지됨)
+ */
+@Getter
+@AllArgsConstructor
+public class SwitchSpecResult {
+
+    private final int total;
+    private final List<Long> ids;
+    private final Map<SwitchSpec, Histogram> histograms;
+
+    /**
+     * 고정 폭 히스토그램 (counts[i] 는 [start + i * bucketWidth, start + (i + 1) * bucketWidth) 구간 개수)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Histogram {
+        private final BigDecimal start;
+        private final BigDecimal bucketWidth;
+        private final long[] counts;
+    }
+}
@@ -0,0 +1,179 @@
+package com.thockpick.application.switches;
+
+import com.thockpick.domain.switches.Switch;
+import com.thockpick.domain.switches.SwitchCatalogChangedEvent;
+import com.thockpick.domain.switches.SwitchRepository;
+import com.thockpick.global.util.HangulUtils;
+import com.thockpick.infrastructure.search.document.SwitchDocumentMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+
+/**
+ * 스위치 자동완성 서비스 (메모리 트라이, ES/DB 조회 없음)
+ * - 색인 대상: 스위치 전체 이름, 이름 속 한글 토큰, switch_nicknames.json 별명
+ * - 각 항목은 원문 + 초성 키로 색인 (예: "갈축" → "갈축", "ㄱㅊ")
+ * - 동기화 완료 시 새 트라이를 만든 뒤 참조만 교체 (조회 쪽은 락 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SwitchSuggestService {
+
+    private static final int TOP_K = 20;         // 노드별로 미리 계산해 둘 제안 수
+    private static final int MAX_LIMIT = 20;
+    private static final int MAX_MIXED_NODES = 512; // 초성 혼합 입력에서 분기하며 따라갈 최대 노드 수
+
+    private final SwitchRepository switchRepository;
+    private final SwitchNicknameService switchNicknameService;
+    private final SwitchDocumentMapper switchDocumentMapper;
+
+    private volatile SuggestTrie trie = new SuggestTrie.Builder(TOP_K).build();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @EventListener({SwitchCatalogChangedEvent.class, NicknameDictionaryChangedEvent.class})
+    public void onCatalogChanged() {
+        rebuild();
+    }
+
+    /**
+     * 전체 스위치 + 별명 사전으로 트라이 재구성
+     */
+    public void rebuild() {
+        try {
+            List<Candidate> candidates = new ArrayList<>();
+            Set<String> seenTexts = new HashSet<>();
+
+            for (Switch switchEntity : switchRepository.findAll()) {
+                String name = switchEntity.getName();
+                if (!StringUtils.hasText(name)) continue;
+                candidates.add(new Candidate(new SwitchSuggestion(name, switchEntity.getId()), wordStarts(name)));
+
+                // 이름 속 한글 토큰 (예: "MX Brown(체갈)" → "체갈")
+                List<String> koreanTokens = new ArrayList<>();
+                switchDocumentMapper.extractKoreanFromName(name, koreanTokens);
+                koreanTokens.forEach(token -> addTerm(candidates, seenTexts, token));
+            }
+            switchNicknameService.getAllNicknames().forEach(nickname -> addTerm(candidates, seenTexts, nickname));
+
+            // 짧은 항목 우선 (같은 길이면 사전순)
+            candidates.sort(Comparator.comparingInt((Candidate c) -> c.key.length()).thenComparing(c -> c.key));
+
+            SuggestTrie.Builder builder = new SuggestTrie.Builder(TOP_K);
+            for (Candidate candidate : candidates) {
+                builder.add(candidate.suggestion, candidate.key, candidate.indexKeys());
+            }
+
+            trie = builder.build();
+            log.info("자동완성 트라이 재구성 완료: {}건", candidates.size());
+        } catch (Exception e) {
+            log.warn("자동완성 트라이 재구성 실패 (기존 트라이 유지): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 접두어/초성 자동완성
+     * 예: "개" → 개옐, 개적 / "ㄱㅊ" → 갈축 / "갈ㅊ" → 갈축
+     */
+    public List<SwitchSuggestion> suggest(String query, int limit) {
+        if (!StringUtils.hasText(query)) return Collections.emptyList();
+
+        SuggestTrie current = trie;
+        String key = normalize(query);
+        int max = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        List<SwitchSuggestion> result = new ArrayList<>(max);
+
+        if (!HangulUtils.containsChosung(key)) {
+            for (int entry : current.lookup(key)) {
+                if (result.size() >= max) break;
+                result.add(current.entry(entry));
+            }
+            return result;
+        }
+
+        // 초성만 입력: 초성 키 노드의 상위 K개
+        // 초성이 섞인 입력 (예: "갈축" 입력 도중의 "갈ㅊ"): 원문 키를 따라가며 초성 글자에서 분기,
+        // 도달한 모든 노드의 상위 K개를 합친 뒤 완성된 음절 위치가 실제로 일치하는지 확인
+        String chosungKey = HangulUtils.toChosung(key);
+        int[] candidates = chosungKey.equals(key)
+                ? current.lookup(key)
+                : current.lookupMixed(key, MAX_MIXED_NODES);
+        for (int entry : candidates) {
+            if (result.size() >= max) break;
+            if (matchesMixed(current.entryKey(entry), key)) {
+                result.add(current.entry(entry));
+            }
+        }
+        return result;
+    }
+
+    private void addTerm(List<Candidate> candidates, Set<String> seenTexts, String term) {
+        if (StringUtils.hasText(term) && seenTexts.add(normalize(term))) {
+            candidates.add(new Candidate(new SwitchSuggestion(term, null), List.of(normalize(term))));
+        }
+    }
+
+    /**
+     * 단어 시작 위치별 접미사 (예: "Gateron Milky Yellow" → gateronmilkyyellow, milkyyellow, yellow)
+     */
+    private static List<String> wordStarts(String name) {
+        String[] words = name.trim().split("[\\s()\\[\\]{},/]+");
+        List<String> starts = new ArrayList<>();
+        for (int i = 0; i < words.length; i++) {
+            String suffix = normalize(String.join("", Arrays.copyOfRange(words, i, words.length)));
+            if (!suffix.isEmpty()) starts.add(suffix);
+        }
+        return starts;
+    }
+
+    /**
+     * 입력의 각 글자가 초성이면 초성끼리, 완성 음절이면 글자 그대로 비교 (단어 시작 위치 어디서든)
+     */
+    private static boolean matchesMixed(String entryKey, String query) {
+        for (int start = 0; start + query.length() <= entryKey.length(); start++) {
+            boolean matched = true;
+            for (int i = 0; i < query.length() && matched; i++) {
+                char q = query.charAt(i);
+                char c = entryKey.charAt(start + i);
+                matched = HangulUtils.isChosung(q) ? HangulUtils.chosungOf(c) == q : c == q;
+            }
+            if (matched) return true;
+        }
+        return false;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase().replaceAll("\\s+", "");
+    }
+
+    /**
+     * 트라이에 넣기 전 정렬용 후보
+     */
+    private static final class Candidate {
+        private final SwitchSuggestion suggestion;
+        private final String key;
+        private final List<String> textKeys;
+
+        private Candidate(SwitchSuggestion suggestion, List<String> textKeys) {
+            this.suggestion = suggestion;
+            this.key = normalize(suggestion.getText());
+            this.textKeys = textKeys;
+        }
+
+        // 원문 키 + 초성 키
+        private Set<String> indexKeys() {
+            Set<String> keys = new LinkedHashSet<>(textKeys);
+            textKeys.forEach(textKey -> keys.add(HangulUtils.toChosung(textKey)));
+            return keys;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.thockpick.application.switches;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 자동완성 제안 항목
+ */
+@Getter
+@RequiredArgsConstructor
+public class SwitchSuggestion {
+    private final String text;      // 검색창에 채울 문자열 (스위치 이름 또는 별명)
+    private final Long switchId;    // 스위치 이름인 경우 해당 ID (별명은 여러 스위치에 걸치므로 null)
+}
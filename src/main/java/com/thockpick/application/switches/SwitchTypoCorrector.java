@@ -0,0 +1,103 @@
+package com.thockpick.application.switches;
+
+import com.thockpick.domain.switches.Switch;
+import com.thockpick.domain.switches.SwitchCatalogChangedEvent;
+import com.thockpick.domain.switches.SwitchRepository;
+import com.thockpick.infrastructure.search.document.SwitchDocumentMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+
+/**
+ * 검색어 오타 교정 서비스 (메모리 사전, ES/DB 조회 없음)
+ * - 사전: 스위치 이름의 단어, 이름 속 한글 토큰, switch_nicknames.json 별명
+ * - 한글은 자모 단위로 편집 거리를 계산 (예: "홀리펜다" → "홀리판다", "gateron yelow" → "gateron yellow")
+ * - 검색 결과가 0건일 때만 호출됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SwitchTypoCorrector {
+
+    private static final int MIN_WORD_LENGTH = 2;
+
+    private final SwitchRepository switchRepository;
+    private final SwitchNicknameService switchNicknameService;
+    private final SwitchDocumentMapper switchDocumentMapper;
+
+    private volatile FuzzyTermIndex index = FuzzyTermIndex.build(List.of());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @EventListener({SwitchCatalogChangedEvent.class, NicknameDictionaryChangedEvent.class})
+    public void onCatalogChanged() {
+        rebuild();
+    }
+
+    /**
+     * 전체 스위치 + 별명 사전으로 교정 사전 재구성
+     */
+    public void rebuild() {
+        try {
+            Set<String> terms = new LinkedHashSet<>(switchNicknameService.getAllNicknames());
+            for (Switch switchEntity : switchRepository.findAll()) {
+                String name = switchEntity.getName();
+                if (!StringUtils.hasText(name)) continue;
+
+                List<String> koreanTokens = new ArrayList<>();
+                String englishName = switchDocumentMapper.extractKoreanFromName(name, koreanTokens);
+                terms.addAll(koreanTokens);
+                terms.addAll(words(englishName));
+            }
+
+            index = FuzzyTermIndex.build(terms);
+            log.info("오타 교정 사전 재구성 완료: {}건", index.size());
+        } catch (Exception e) {
+            log.warn("오타 교정 사전 재구성 실패 (기존 사전 유지): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 사전에 없는 단어를 가장 가까운 단어로 바꾼 검색어 (바뀐 단어가 없으면 empty)
+     */
+    public Optional<String> correct(String keyword) {
+        if (!StringUtils.hasText(keyword)) return Optional.empty();
+
+        FuzzyTermIndex current = index;
+        String trimmed = keyword.trim();
+
+        // 띄어쓰기 없이 붙여 쓴 별명은 통째로 교정 (예: "홀리 펜다" → "홀리판다")
+        String collapsed = trimmed.replaceAll("\\s+", "");
+        if (!collapsed.equals(trimmed) && !current.contains(collapsed)) {
+            String corrected = current.closest(collapsed);
+            if (corrected != null) return Optional.of(corrected);
+        }
+
+        boolean changed = false;
+        List<String> corrected = new ArrayList<>();
+        for (String word : trimmed.split("\\s+")) {
+            String replacement = null;
+            if (word.length() >= MIN_WORD_LENGTH && !current.contains(word)) {
+                replacement = current.closest(word);
+            }
+            corrected.add(replacement != null ? replacement : word);
+            changed |= replacement != null;
+        }
+        return changed ? Optional.of(String.join(" ", corrected)) : Optional.empty();
+    }
+
+    private static List<String> words(String text) {
+        if (text == null) return Collections.emptyList();
+        return Arrays.stream(text.split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> word.length() >= MIN_WORD_LENGTH)
+                .toList();
+    }
+}
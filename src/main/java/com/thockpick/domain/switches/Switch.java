@@ -8,6 +8,8 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -15,21 +17,27 @@ import java.util.List;
 
 /**
  * 스위치 엔티티
+ * (2차 캐시: 동기화 때만 바뀌므로 상세 조회는 캐시에서 처리)
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "switches", indexes = {
         @Index(name = "idx_switch_type", columnList = "type"),
         @Index(name = "idx_switch_manufacturer", columnList = "manufacturer"),
         @Index(name = "idx_switch_price", columnList = "price"),
         @Index(name = "idx_switch_name", columnList = "name"),
-        @Index(name = "idx_google_sheets_row", columnList = "googleSheetsRow")
+        @Index(name = "idx_google_sheets_row", columnList = "googleSheetsRow"),
+        @Index(name = "idx_switch_sheet_key", columnList = "sheetKey")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Switch extends BaseEntity {
 
+    // IDENTITY 는 INSERT 마다 키를 돌려받아야 해서 JDBC 배치가 꺼지므로 시퀀스(50개씩 선할당) 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "switch_seq")
+    @SequenceGenerator(name = "switch_seq", sequenceName = "switches_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -80,6 +88,13 @@ public class Switch extends BaseEntity {
 
     private Integer googleSheetsRow;
 
+    @Column(length = 160)
+    private String sheetKey; // 행 번호와 무관한 동기화 키 (탭 카테고리 + 정규화된 이름)
+
+    @Column(length = 64)
+    private String contentHash; // 마지막으로 반영한 시트 행 내용의 SHA-256 (변경 감지용)
+
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "switchEntity", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<SwitchVideo> switchVideos = new ArrayList<>();
 
@@ -88,7 +103,8 @@ public class Switch extends BaseEntity {
                   Integer price, Integer actuationForce, Integer bottomOutForce,
                   BigDecimal travelDistance, BigDecimal preTravel, String springType,
                   String stemMaterial, String housingMaterial, SoundProfile soundProfile,
-                  Boolean isLubed, String description, Integer googleSheetsRow) {
+                  Boolean isLubed, String description, Integer googleSheetsRow,
+                  String sheetKey, String contentHash) {
         this.name = name;
         this.type = type;
         this.category = category;
@@ -106,6 +122,8 @@ public class Switch extends BaseEntity {
         this.isLubed = isLubed != null ? isLubed : false;
         this.description = description;
         this.googleSheetsRow = googleSheetsRow;
+        this.sheetKey = sheetKey;
+        this.contentHash = contentHash;
     }
 
     /**
@@ -134,4 +152,13 @@ public class Switch extends BaseEntity {
         this.isLubed = isLubed;
         this.description = description;
     }
+
+    /**
+     * Google Sheets 동기화 상태 갱신 (행 번호, 시트 키, 내용 해시)
+     */
+    public void updateSyncState(Integer googleSheetsRow, String sheetKey, String contentHash) {
+        this.googleSheetsRow = googleSheetsRow;
+        this.sheetKey = sheetKey;
+        this.contentHash = contentHash;
+    }
 }
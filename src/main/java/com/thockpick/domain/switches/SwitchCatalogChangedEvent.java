@@ -0,0 +1,15 @@
+package com.thockpick.domain.switches;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스위치 카탈로그 변경 이벤트
+ * (동기화 완료 후 발행 → 메모리 인덱스/캐시 등이 재구성)
+ */
+@Getter
+@RequiredArgsConstructor
+public class SwitchCatalogChangedEvent {
+
+    private final int changedCount; // 이번 동기화에서 반영된 스위치 개수
+}
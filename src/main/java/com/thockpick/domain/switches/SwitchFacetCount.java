@@ -0,0 +1,11 @@
+package com.thockpick.domain.switches;
+
+/**
+ * 타입 x 제조사 x 카테고리 그룹별 개수 (GROUP BY 프로젝션)
+ */
+public interface SwitchFacetCount {
+    SwitchType getType();
+    String getManufacturer();
+    String getCategory();
+    Long getCount();
+}
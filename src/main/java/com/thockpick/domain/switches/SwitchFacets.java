@@ -0,0 +1,58 @@
+package com.thockpick.domain.switches;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.*;
+
+/**
+ * 스위치 패싯 집계 결과 (타입/제조사/카테고리별 개수)
+ * - 타입은 모든 SwitchType을 0 포함해 enum 순서로, 제조사/카테고리는 개수 내림차순
+ */
+@Getter
+@RequiredArgsConstructor
+public class SwitchFacets {
+
+    private final long total;
+    private final Map<SwitchType, Long> types;
+    private final Map<String, Long> manufacturers;
+    private final Map<String, Long> categories;
+
+    public static SwitchFacets of(long total, Map<SwitchType, Long> types,
+                                  Map<String, Long> manufacturers, Map<String, Long> categories) {
+        Map<SwitchType, Long> typeCounts = new EnumMap<>(SwitchType.class);
+        for (SwitchType type : SwitchType.values()) {
+            typeCounts.put(type, types.getOrDefault(type, 0L));
+        }
+        return new SwitchFacets(total, Collections.unmodifiableMap(typeCounts),
+                sortByCount(manufacturers), sortByCount(categories));
+    }
+
+    /**
+     * GROUP BY (type, manufacturer, category) 결과를 패싯별로 합산
+     */
+    public static SwitchFacets fromCounts(List<? extends SwitchFacetCount> rows) {
+        long total = 0;
+        Map<SwitchType, Long> types = new EnumMap<>(SwitchType.class);
+        Map<String, Long> manufacturers = new HashMap<>();
+        Map<String, Long> categories = new HashMap<>();
+
+        for (SwitchFacetCount row : rows) {
+            long count = row.getCount();
+            total += count;
+            if (row.getType() != null) types.merge(row.getType(), count, Long::sum);
+            if (row.getManufacturer() != null) manufacturers.merge(row.getManufacturer(), count, Long::sum);
+            if (row.getCategory() != null) categories.merge(row.getCategory(), count, Long::sum);
+        }
+        return of(total, types, manufacturers, categories);
+    }
+
+    private static Map<String, Long> sortByCount(Map<String, Long> counts) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.<String, Long>comparingByKey()))
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return Collections.unmodifiableMap(sorted);
+    }
+}
@@ -0,0 +1,84 @@
+package com.thockpick.domain.switches;
+
+import com.thockpick.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인 outbox
+ * - 스위치 변경과 같은 트랜잭션에서 기록해 DB 커밋과 색인 요청이 함께 남도록 함
+ * - SwitchIndexOutboxRelay 가 모아서 ES 에 반영하고, 성공한 항목은 삭제
+ */
+@Entity
+@Table(name = "switch_index_outbox", indexes = {
+        @Index(name = "idx_outbox_status_next_attempt", columnList = "status, nextAttemptAt")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SwitchIndexOutbox extends BaseEntity {
+
+    public enum Operation {
+        UPSERT, DELETE
+    }
+
+    public enum Status {
+        PENDING, // 반영 대기 (실패 시 nextAttemptAt 이후 재시도)
+        DEAD     // 최대 재시도 초과 (수동 확인 또는 전체 재색인 필요)
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "switch_index_outbox_seq")
+    @SequenceGenerator(name = "switch_index_outbox_seq", sequenceName = "switch_index_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long switchId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Operation operation;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Status status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    private SwitchIndexOutbox(Long switchId, Operation operation) {
+        this.switchId = switchId;
+        this.operation = operation;
+        this.status = Status.PENDING;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public static SwitchIndexOutbox upsert(Long switchId) {
+        return new SwitchIndexOutbox(switchId, Operation.UPSERT);
+    }
+
+    public static SwitchIndexOutbox delete(Long switchId) {
+        return new SwitchIndexOutbox(switchId, Operation.DELETE);
+    }
+
+    /**
+     * 반영 실패 기록 (maxAttempts 에 도달하면 DEAD, 아니면 nextAttemptAt 까지 대기)
+     */
+    public void markFailed(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error;
+        this.nextAttemptAt = nextAttemptAt;
+        if (this.attempts >= maxAttempts) {
+            this.status = Status.DEAD;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.thockpick.domain.switches;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 검색 색인 outbox Repository
+ */
+@Repository
+public interface SwitchIndexOutboxRepository extends JpaRepository<SwitchIndexOutbox, Long> {
+
+    /**
+     * 지금 반영할 항목 (기록 순)
+     */
+    List<SwitchIndexOutbox> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(SwitchIndexOutbox.Status status,
+                                                                                 LocalDateTime now, Pageable pageable);
+
+    long countByStatus(SwitchIndexOutbox.Status status);
+
+    /**
+     * 가장 오래된 대기 항목의 기록 시각 (지연 지표용)
+     */
+    @Query("select min(o.createdAt) from SwitchIndexOutbox o where o.status = com.thockpick.domain.switches.SwitchIndexOutbox.Status.PENDING")
+    Optional<LocalDateTime> findOldestPendingCreatedAt();
+}
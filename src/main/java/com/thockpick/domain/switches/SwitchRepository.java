@@ -1,8 +1,16 @@
 package com.thockpick.domain.switches;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,7 +18,7 @@ import java.util.Optional;
  * 스위치 Repository
  */
 @Repository
-public interface SwitchRepository extends JpaRepository<Switch, Long>, JpaSpecificationExecutor<Switch> {
+public interface SwitchRepository extends JpaRepository<Switch, Long>, JpaSpecificationExecutor<Switch>, SwitchRepositoryCustom {
 
     /**
      * 이름으로 스위치 조회
@@ -28,8 +36,46 @@ public interface SwitchRepository extends JpaRepository<Switch, Long>, JpaSpecif
     Optional<Switch> findByGoogleSheetsRow(Integer googleSheetsRow);
 
     /**
-     * 타입별 스위치 개수 조회 (COUNT 쿼리 사용)
+     * 패싯 집계 (타입 x 제조사 x 카테고리 GROUP BY 한 번으로 모든 버킷 개수 조회, 쿼리 캐시 대상)
+     *
+     * @param type         스위치 타입 (null이면 전체)
+     * @param manufacturer 제조사 (null이면 전체)
      */
-    long countByType(SwitchType type);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select s.type as type, s.manufacturer as manufacturer, s.category as category, count(s) as count " +
+            "from Switch s " +
+            "where (:type is null or s.type = :type) " +
+            "and (:manufacturer is null or s.manufacturer = :manufacturer) " +
+            "group by s.type, s.manufacturer, s.category")
+    List<SwitchFacetCount> countFacets(@Param("type") SwitchType type, @Param("manufacturer") String manufacturer);
 
+    /**
+     * 동기화 매칭용 키 전체 조회 (시트 키 / 행 번호 + 카테고리 / 이름 → ID 맵과 내용 해시를 한 번에 구성)
+     */
+    @Query("select s.id as id, s.googleSheetsRow as googleSheetsRow, s.category as category, s.name as name, " +
+            "s.sheetKey as sheetKey, s.contentHash as contentHash " +
+            "from Switch s order by s.id")
+    List<SwitchSyncKey> findAllSyncKeys();
+
+    /**
+     * 행 범위 동기화 매칭용 키 조회
+     * (시트 키가 일치하는 스위치 + 같은 탭의 행 범위에 있는 스위치(이름이 바뀐 행 매칭용) + 시트 키가 없는 기존 데이터 중 같은 이름)
+     */
+    @Query("select s.id as id, s.googleSheetsRow as googleSheetsRow, s.category as category, s.name as name, " +
+            "s.sheetKey as sheetKey, s.contentHash as contentHash " +
+            "from Switch s " +
+            "where s.sheetKey in :sheetKeys " +
+            "or (s.category = :category and s.googleSheetsRow between :fromRow and :toRow) " +
+            "or (s.sheetKey is null and s.name in :names) " +
+            "order by s.id")
+    List<SwitchSyncKey> findSyncKeysForRows(@Param("sheetKeys") Collection<String> sheetKeys,
+                                            @Param("category") String category,
+                                            @Param("fromRow") Integer fromRow,
+                                            @Param("toRow") Integer toRow,
+                                            @Param("names") Collection<String> names);
+
+    /**
+     * ID 순 키셋 페이지 조회 (전체 재색인 시 OFFSET/COUNT 없이 순서대로 읽기)
+     */
+    Slice<Switch> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
@@ -0,0 +1,24 @@
+package com.thockpick.domain.switches;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * 스위치 목록 전용 조회 (엔티티 대신 목록 컬럼만 SELECT 해서 SwitchSummary 로 바로 생성)
+ */
+public interface SwitchRepositoryCustom {
+
+    /**
+     * 조건에 맞는 스위치 요약 페이지 (COUNT 는 필요할 때만 실행)
+     */
+    Page<SwitchSummary> findSummaries(Specification<Switch> spec, Pageable pageable);
+
+    /**
+     * 조건에 맞는 스위치 요약을 정렬해 최대 limit 건 (키셋 조회용)
+     */
+    List<SwitchSummary> findSummaries(Specification<Switch> spec, Sort sort, int limit);
+}
@@ -0,0 +1,89 @@
+package com.thockpick.domain.switches;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+/**
+ * 목록 컬럼 8개만 SELECT new SwitchSummary(...) 로 조회
+ * - description(TEXT), 소재/스프링 등 목록에 안 쓰는 컬럼을 읽지 않음
+ * - 결과가 엔티티가 아니므로 영속성 컨텍스트 등록/스냅샷/변경 감지 비용 없음
+ * - 목록/COUNT 쿼리 모두 쿼리 캐시 대상 (switches 테이블이 바뀌면 Hibernate 가 자동 무효화)
+ */
+@RequiredArgsConstructor
+public class SwitchRepositoryCustomImpl implements SwitchRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<SwitchSummary> findSummaries(Specification<Switch> spec, Pageable pageable) {
+        TypedQuery<SwitchSummary> query = summaryQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<SwitchSummary> findSummaries(Specification<Switch> spec, Sort sort, int limit) {
+        return summaryQuery(spec, sort)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private TypedQuery<SwitchSummary> summaryQuery(Specification<Switch> spec, Sort sort) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<SwitchSummary> query = criteriaBuilder.createQuery(SwitchSummary.class);
+        Root<Switch> root = query.from(Switch.class);
+
+        // SwitchSummary 생성자(@AllArgsConstructor) 필드 순서와 동일
+        query.select(criteriaBuilder.construct(SwitchSummary.class,
+                root.get("id"),
+                root.get("name"),
+                root.get("type"),
+                root.get("category"),
+                root.get("manufacturer"),
+                root.get("price"),
+                root.get("actuationForce"),
+                root.get("bottomOutForce")));
+
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        }
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_CACHEABLE, true);
+    }
+
+    private long count(Specification<Switch> spec) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Switch> root = query.from(Switch.class);
+        query.select(criteriaBuilder.count(root));
+
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .getSingleResult();
+    }
+}
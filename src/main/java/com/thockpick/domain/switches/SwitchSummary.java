@@ -0,0 +1,37 @@
+package com.thockpick.domain.switches;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 스위치 목록용 요약 정보
+ * (목록 화면에 필요한 필드만 담아 MariaDB / Elasticsearch 어느 쪽에서든 동일하게 채움)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class SwitchSummary {
+    private Long id;
+    private String name;
+    private SwitchType type;
+    private String category;
+    private String manufacturer;
+    private Integer price;
+    private Integer actuationForce;
+    private Integer bottomOutForce;
+
+    // 엔티티 -> 요약 변환 메서드
+    public static SwitchSummary from(Switch switchEntity) {
+        return SwitchSummary.builder()
+                .id(switchEntity.getId())
+                .name(switchEntity.getName())
+                .type(switchEntity.getType())
+                .category(switchEntity.getCategory())
+                .manufacturer(switchEntity.getManufacturer())
+                .price(switchEntity.getPrice())
+                .actuationForce(switchEntity.getActuationForce())
+                .bottomOutForce(switchEntity.getBottomOutForce())
+                .build();
+    }
+}
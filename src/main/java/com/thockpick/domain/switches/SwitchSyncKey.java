@@ -0,0 +1,19 @@
+package com.thockpick.domain.switches;
+
+/**
+ * 동기화 대상 매칭용 스위치 키 (엔티티 전체 대신 필요한 컬럼만 조회)
+ */
+public interface SwitchSyncKey {
+
+    Long getId();
+
+    Integer getGoogleSheetsRow();
+
+    String getCategory();
+
+    String getName();
+
+    String getSheetKey();
+
+    String getContentHash();
+}
@@ -6,11 +6,15 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * 스위치-영상 연관 테이블 (N:M)
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "switch_videos", indexes = {
         @Index(name = "idx_switch_video_switch", columnList = "switch_id"),
         @Index(name = "idx_switch_video_video", columnList = "video_id")
@@ -0,0 +1,54 @@
+package com.thockpick.global.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Parameter;
+import java.util.StringJoiner;
+
+/**
+ * 캐시 설정
+ * - Caffeine (크기/TTL 제한은 application.yml의 spring.cache.caffeine.spec)
+ * - 카탈로그는 동기화 때만 바뀌므로 SwitchCatalogChangedEvent 수신 시 전체 무효화
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String SWITCH_SEARCH = "switchSearch";
+    public static final String SWITCH_FACETS = "switchFacets";
+
+    /**
+     * 검색 조건 캐시 키 (메서드명 + 정규화된 파라미터)
+     * - 문자열은 앞뒤/연속 공백 정리, keyword 파라미터는 대소문자 무시
+     * - Pageable은 page/size/sort
+     */
+    @Bean
+    public KeyGenerator switchSearchKeyGenerator() {
+        return (target, method, params) -> {
+            Parameter[] parameters = method.getParameters();
+            StringJoiner key = new StringJoiner("|", method.getName() + "|", "");
+            for (int i = 0; i < params.length; i++) {
+                key.add(normalize(parameters[i].getName(), params[i]));
+            }
+            return key.toString();
+        };
+    }
+
+    private static String normalize(String name, Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Pageable pageable) {
+            return pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort();
+        }
+        if (value instanceof String text) {
+            String normalized = text.trim().replaceAll("\\s+", " ");
+            return "keyword".equals(name) ? normalized.toLowerCase() : normalized;
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,13 @@
+package com.thockpick.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * - 검색 색인 outbox 릴레이(SwitchIndexOutboxRelay) 주기 실행
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
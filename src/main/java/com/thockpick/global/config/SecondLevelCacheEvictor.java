@@ -0,0 +1,42 @@
+package com.thockpick.global.config;
+
+import com.thockpick.domain.switches.Switch;
+import com.thockpick.domain.switches.SwitchCatalogChangedEvent;
+import com.thockpick.domain.videos.SwitchVideo;
+import com.thockpick.domain.videos.Video;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate 2차 캐시 무효화
+ * - 동기화 쓰기는 JPA 를 거치므로 변경된 엔티티는 READ_WRITE 전략으로 이미 갱신되지만,
+ *   동기화 완료 시 스위치 관련 영역과 쿼리 캐시를 한 번 더 비워 다른 경로의 변경까지 정리
+ * - 스위치 삭제가 SwitchVideo 를 cascade 삭제하므로 반대편 Video.switchVideos 컬렉션 영역도 함께 비움
+ * - 스냅샷 재구성 리스너들보다 먼저 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(SwitchCatalogChangedEvent.class)
+    public void onCatalogChanged(SwitchCatalogChangedEvent event) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(Switch.class);
+        cache.evictCollectionData(Switch.class.getName() + ".switchVideos");
+        cache.evictEntityData(SwitchVideo.class);
+        cache.evictCollectionData(Video.class.getName() + ".switchVideos");
+        cache.evictQueryRegions();
+        log.info("2차 캐시 무효화: 스위치/스위치-영상/영상 컬렉션 영역 + 쿼리 캐시 (변경 {}건)", event.getChangedCount());
+    }
+}
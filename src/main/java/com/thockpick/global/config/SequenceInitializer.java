@@ -0,0 +1,39 @@
+package com.thockpick.global.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시퀀스 위치 보정
+ * - switches 테이블은 AUTO_INCREMENT(IDENTITY) 로 채워져 있었으므로, 새로 만든 switches_seq 를 기존 최대 ID 뒤로 이동
+ * - MariaDB SETVAL 은 현재 값보다 작은 값은 무시하므로 매 기동마다 실행해도 안전
+ * - 보정에 실패하면 이후 INSERT 가 기존 ID 와 충돌하므로 기동을 중단
+ *   (스키마 갱신(ddl-auto) 으로 시퀀스가 생긴 뒤, 웹 서버가 요청을 받기 전에 실행)
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class SequenceInitializer {
+
+    private static final int SWITCH_ALLOCATION_SIZE = 50; // Switch 의 @SequenceGenerator allocationSize
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void alignSwitchSequence() {
+        try {
+            Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from switches", Long.class);
+            long next = (maxId == null ? 0 : maxId) + SWITCH_ALLOCATION_SIZE;
+            jdbcTemplate.queryForObject("select setval(switches_seq, " + next + ")", Long.class);
+            log.info("switches_seq 보정 완료 (최대 ID: {})", maxId);
+        } catch (Exception e) {
+            log.error("switches_seq 보정 실패, 기동 중단: {}", e.getMessage());
+            throw new IllegalStateException("switches_seq 보정 실패 (기존 ID 와 충돌 위험)", e);
+        }
+    }
+}
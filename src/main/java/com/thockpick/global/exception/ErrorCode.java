@@ -31,7 +31,9 @@ public enum ErrorCode {
 
     // Sync
     SYNC_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "SY001", "동기화에 실패했습니다."),
-    GOOGLE_SHEETS_API_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "SY002", "Google Sheets API 오류가 발생했습니다.");
+    GOOGLE_SHEETS_API_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "SY002", "Google Sheets API 오류가 발생했습니다."),
+    SYNC_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "SY003", "동기화 작업을 찾을 수 없습니다."),
+    SYNC_JOB_ALREADY_RUNNING(HttpStatus.CONFLICT, "SY004", "다른 동기화 작업이 진행 중입니다.");
 
     private final HttpStatus status;
     private final String code;
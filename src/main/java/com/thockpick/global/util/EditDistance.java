@@ -0,0 +1,43 @@
+package com.thockpick.global.util;
+
+/**
+ * 편집 거리 유틸리티
+ * - 오타 교정 사전(FuzzyTermIndex)과 시트 동기화의 이름 변경 판단에서 함께 사용
+ */
+public final class EditDistance {
+
+    private EditDistance() {
+    }
+
+    /**
+     * Levenshtein 거리 (limit 을 넘으면 limit + 1 반환, 대각선 띠만 계산)
+     */
+    public static int bounded(String a, String b, int limit) {
+        if (Math.abs(a.length() - b.length()) > limit) return limit + 1;
+
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) previous[j] = j;
+
+        for (int i = 1; i <= a.length(); i++) {
+            int from = Math.max(1, i - limit);
+            int to = Math.min(b.length(), i + limit);
+            current[0] = i;
+            if (from > 1) current[from - 1] = limit + 1;
+
+            int rowMin = current[0];
+            for (int j = from; j <= to; j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (to < b.length()) current[to + 1] = limit + 1;
+            if (rowMin > limit) return limit + 1;
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], limit + 1);
+    }
+}
@@ -0,0 +1,120 @@
+package com.thockpick.global.util;
+
+/**
+ * 한글 자모 처리 유틸리티
+ * - 초성 추출 (예: "갈축" → "ㄱㅊ")
+ * - 자모 분해 (예: "갈축" → "ㄱㅏㄹㅊㅜㄱ", 오타 교정의 편집 거리 계산용)
+ */
+public final class HangulUtils {
+
+    private static final char SYLLABLE_BEGIN = '\uAC00'; // 가
+    private static final char SYLLABLE_END = '\uD7A3';   // 힣
+    private static final int JUNGSUNG_COUNT = 21;
+    private static final int JONGSUNG_COUNT = 28;
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private static final char[] JUNGSUNG = {
+            'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ',
+            'ㅙ', 'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'
+    };
+
+    // 0번은 받침 없음
+    private static final char[] JONGSUNG = {
+            0, 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ',
+            'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulUtils() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    /**
+     * 호환용 자음 자모(ㄱ~ㅎ) 여부
+     */
+    public static boolean isChosung(char c) {
+        return c >= '\u3131' && c <= '\u314E';
+    }
+
+    public static boolean containsChosung(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isChosung(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 음절의 초성 (한글 음절이 아니면 그대로 반환)
+     */
+    public static char chosungOf(char c) {
+        if (!isSyllable(c)) {
+            return c;
+        }
+        return CHOSUNG[(c - SYLLABLE_BEGIN) / (JUNGSUNG_COUNT * JONGSUNG_COUNT)];
+    }
+
+    /**
+     * 초성으로 시작하는 첫 음절 (예: 'ㄱ' → '가', 초성 19자가 아니면 0)
+     * 같은 초성의 음절은 '가' ~ '깋' 처럼 코드 포인트가 연속됨
+     */
+    public static char firstSyllableOf(char chosung) {
+        for (int i = 0; i < CHOSUNG.length; i++) {
+            if (CHOSUNG[i] == chosung) {
+                return (char) (SYLLABLE_BEGIN + i * JUNGSUNG_COUNT * JONGSUNG_COUNT);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 초성으로 시작하는 마지막 음절 (예: 'ㄱ' → '깋', 초성 19자가 아니면 0)
+     */
+    public static char lastSyllableOf(char chosung) {
+        char first = firstSyllableOf(chosung);
+        return first == 0 ? 0 : (char) (first + JUNGSUNG_COUNT * JONGSUNG_COUNT - 1);
+    }
+
+    /**
+     * 문자열의 한글 음절을 초성으로 치환 (영문/숫자 등은 그대로 유지)
+     */
+    public static String toChosung(String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            result.append(chosungOf(text.charAt(i)));
+        }
+        return result.toString();
+    }
+
+    /**
+     * 문자열의 한글 음절을 초성/중성/종성 자모로 분해 (영문/숫자 등은 그대로 유지)
+     * 예: "홀리판다" → "ㅎㅗㄹㄹㅣㅍㅏㄴㄷㅏ" (음절 단위보다 오타의 편집 거리가 작게 잡힘)
+     */
+    public static String toJamo(String text) {
+        StringBuilder result = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!isSyllable(c)) {
+                result.append(c);
+                continue;
+            }
+
+            int offset = c - SYLLABLE_BEGIN;
+            result.append(CHOSUNG[offset / (JUNGSUNG_COUNT * JONGSUNG_COUNT)]);
+            result.append(JUNGSUNG[(offset / JONGSUNG_COUNT) % JUNGSUNG_COUNT]);
+            int jongsung = offset % JONGSUNG_COUNT;
+            if (jongsung != 0) {
+                result.append(JONGSUNG[jongsung]);
+            }
+        }
+        return result.toString();
+    }
+}
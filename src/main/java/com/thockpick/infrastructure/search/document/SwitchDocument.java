@@ -1,11 +1,15 @@
 package com.thockpick.infrastructure.search.document;
 
+import com.thockpick.domain.switches.SwitchSummary;
+import com.thockpick.domain.switches.SwitchType;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
 
 import java.util.List;
 
@@ -20,13 +24,46 @@ public class SwitchDocument {
     @Field(type = FieldType.Text, analyzer = "nori") // 한글 형태소 분석
     private String name;
 
+    // 목록 표시용 원본 이름 (검색 대상 아님)
+    @Field(type = FieldType.Keyword, index = false)
+    private String displayName;
+
     @Field(type = FieldType.Keyword)
-    private String brand;
+    private String brand; // 제조사 (필터 조건으로 사용)
 
-    // 카테고리 필드 (저소음, HMX, 체리 등)
-    @Field(type = FieldType.Text, analyzer = "nori")
+    // 카테고리 필드 (저소음, HMX, 체리 등) - category.keyword 는 패싯 집계용
+    @MultiField(mainField = @Field(type = FieldType.Text, analyzer = "nori"),
+            otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword))
     private String category;
 
     @Field(type = FieldType.Keyword)
-    private List<String> nicknames; // 은어/약어는 정확 매칭
-}
\ No newline at end of file
+    private List<String> nicknames; // 이름에 포함된 한글 표기(예: 체갈) 정확 매칭, 사전 별명은 검색 시 확장
+
+    // --- 목록 응답용 비정규화 필드 (키워드 검색 시 MariaDB 조회 생략) ---
+
+    @Field(type = FieldType.Keyword)
+    private SwitchType type;
+
+    @Field(type = FieldType.Integer)
+    private Integer price;
+
+    @Field(type = FieldType.Integer)
+    private Integer actuationForce;
+
+    @Field(type = FieldType.Integer)
+    private Integer bottomOutForce;
+
+    // 문서 -> 목록 요약 변환
+    public SwitchSummary toSummary() {
+        return SwitchSummary.builder()
+                .id(id)
+                .name(displayName != null ? displayName : name)
+                .type(type)
+                .category(category)
+                .manufacturer(brand)
+                .price(price)
+                .actuationForce(actuationForce)
+                .bottomOutForce(bottomOutForce)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.thockpick.infrastructure.search.document;
+
+import com.thockpick.domain.switches.Switch;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Switch 엔티티 -> SwitchDocument 변환기
+ * (동기화, 폴백 인덱스 등 ES 문서가 필요한 곳에서 공통 사용)
+ */
+@Component
+public class SwitchDocumentMapper {
+
+    public SwitchDocument toDocument(Switch switchEntity) {
+        String originalName = switchEntity.getName();
+
+        // 이름에서 한글 분리 (예: "MX Brown(체갈)" → name: "MX Brown", korean: ["체갈"])
+        List<String> koreanFromName = new ArrayList<>();
+        String cleanedName = extractKoreanFromName(originalName, koreanFromName);
+
+        return SwitchDocument.builder()
+                .id(switchEntity.getId())
+                .name(cleanedName)
+                .displayName(originalName)
+                .brand(switchEntity.getManufacturer())
+                .category(switchEntity.getCategory())
+                .nicknames(koreanFromName) // JSON 사전 별명은 검색 시점에 확장 (SwitchNicknameService.expand)
+                .type(switchEntity.getType())
+                .price(switchEntity.getPrice())
+                .actuationForce(switchEntity.getActuationForce())
+                .bottomOutForce(switchEntity.getBottomOutForce())
+                .build();
+    }
+
+    /**
+     * 스위치 이름에서 한글 토큰을 분리
+     * 예: "MX Brown(체갈)" → cleanedName: "MX Brown", koreanTokens: ["체갈"]
+     * 예: "Beary 새끼곰" → cleanedName: "Beary", koreanTokens: ["새끼곰"]
+     * 예: "Silent Red" → cleanedName: "Silent Red", koreanTokens: []
+     */
+    public String extractKoreanFromName(String name, List<String> koreanTokens) {
+        if (name == null) return null;
+
+        // 특수문자를 공백으로 치환
+        String cleaned = name.replaceAll("[()\\[\\]{},/]", " ");
+
+        String[] tokens = cleaned.split("\\s+");
+        StringBuilder englishName = new StringBuilder();
+
+        for (String token : tokens) {
+            if (token.isEmpty()) continue;
+
+            if (containsKorean(token)) {
+                koreanTokens.add(token);
+            } else {
+                if (!englishName.isEmpty()) englishName.append(" ");
+                englishName.append(token);
+            }
+        }
+
+        return englishName.toString().trim();
+    }
+
+    private boolean containsKorean(String text) {
+        for (char c : text.toCharArray()) {
+            if ((c >= '\uAC00' && c <= '\uD7AF') || (c >= '\u3130' && c <= '\u318F')) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,27 @@
+package com.thockpick.infrastructure.search.fallback;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 폴백 검색 결과 페이지 (map 으로 변환해도 폴백 표시 유지)
+ */
+public class FallbackPage<T> extends PageImpl<T> implements FallbackSearchResult {
+
+    public FallbackPage(List<T> content, Pageable pageable, long total) {
+        super(content, pageable, total);
+    }
+
+    public static <T> FallbackPage<T> of(Page<T> page) {
+        return new FallbackPage<>(page.getContent(), page.getPageable(), page.getTotalElements());
+    }
+
+    @Override
+    public <U> Page<U> map(Function<? super T, ? extends U> converter) {
+        return new FallbackPage<>(getContent().stream().<U>map(converter).toList(), getPageable(), getTotalElements());
+    }
+}
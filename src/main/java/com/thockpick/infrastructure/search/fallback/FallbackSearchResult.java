@@ -0,0 +1,8 @@
+package com.thockpick.infrastructure.search.fallback;
+
+/**
+ * 메모리 폴백 인덱스가 만든 검색 결과 표시
+ * - ES 장애 중의 결과이므로 검색 캐시에 저장하지 않음 (ES 복구 후에도 폴백 결과가 계속 나가지 않도록)
+ */
+public interface FallbackSearchResult {
+}
@@ -0,0 +1,17 @@
+package com.thockpick.infrastructure.search.fallback;
+
+import com.thockpick.domain.switches.SwitchFacets;
+
+/**
+ * 폴백 패싯 집계 결과 (응답 형태는 SwitchFacets 와 동일)
+ */
+public class FallbackSwitchFacets extends SwitchFacets implements FallbackSearchResult {
+
+    private FallbackSwitchFacets(SwitchFacets facets) {
+        super(facets.getTotal(), facets.getTypes(), facets.getManufacturers(), facets.getCategories());
+    }
+
+    public static FallbackSwitchFacets of(SwitchFacets facets) {
+        return new FallbackSwitchFacets(facets);
+    }
+}
@@ -0,0 +1,218 @@
+package com.thockpick.infrastructure.search.fallback;
+
+import com.thockpick.application.switches.SwitchNicknameService;
+import com.thockpick.domain.switches.Switch;
+import com.thockpick.domain.switches.SwitchCatalogChangedEvent;
+import com.thockpick.domain.switches.SwitchFacets;
+import com.thockpick.domain.switches.SwitchRepository;
+import com.thockpick.domain.switches.SwitchType;
+import com.thockpick.infrastructure.search.document.SwitchDocument;
+import com.thockpick.infrastructure.search.document.SwitchDocumentMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Elasticsearch 장애 시 사용하는 메모리 역색인
+ * - name / category 토큰, nicknames 정확 매칭, 사전 별명 확장 구문 매칭을 ES 쿼리와 같은 가중치로 점수화
+ * - 기동 시 + 동기화 완료 시 MariaDB 데이터와 별명 규칙으로 재구성 (스냅샷 통째 교체)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InMemorySwitchIndex {
+
+    // SwitchSearchRepositoryCustomImpl 의 bool 쿼리와 동일한 가중치
+    private static final float NICKNAME_BOOST = 3.0f;
+    private static final float NAME_BOOST = 2.0f;
+    private static final float CATEGORY_BOOST = 1.0f;
+
+    private final SwitchRepository switchRepository;
+    private final SwitchDocumentMapper switchDocumentMapper;
+    private final SwitchNicknameService switchNicknameService;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @EventListener(SwitchCatalogChangedEvent.class)
+    public void onCatalogChanged() {
+        rebuild();
+    }
+
+    /**
+     * 전체 스위치로 역색인 재구성
+     */
+    public void rebuild() {
+        try {
+            List<Switch> switches = switchRepository.findAll();
+            Snapshot rebuilt = Snapshot.build(switches.stream()
+                    .map(switchDocumentMapper::toDocument)
+                    .toList());
+
+            snapshot = rebuilt;
+            log.info("폴백 검색 인덱스 재구성 완료: {}건", rebuilt.documents.size());
+        } catch (Exception e) {
+            log.warn("폴백 검색 인덱스 재구성 실패 (기존 인덱스 유지): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 키워드 검색 (ES searchByKeyword 와 동일한 계약)
+     */
+    public Page<SwitchDocument> search(String keyword, SwitchType type, String manufacturer, Pageable pageable) {
+        List<SwitchDocument> matched = match(keyword, type, manufacturer);
+
+        int from = (int) Math.min(pageable.getOffset(), matched.size());
+        int to = Math.min(from + pageable.getPageSize(), matched.size());
+        return new PageImpl<>(matched.subList(from, to), pageable, matched.size());
+    }
+
+    /**
+     * 패싯 집계 (ES aggregateFacets 와 동일한 계약)
+     */
+    public SwitchFacets facets(String keyword, SwitchType type, String manufacturer) {
+        List<SwitchDocument> matched = match(keyword, type, manufacturer);
+
+        Map<SwitchType, Long> types = new EnumMap<>(SwitchType.class);
+        Map<String, Long> manufacturers = new HashMap<>();
+        Map<String, Long> categories = new HashMap<>();
+        for (SwitchDocument doc : matched) {
+            if (doc.getType() != null) types.merge(doc.getType(), 1L, Long::sum);
+            if (doc.getBrand() != null) manufacturers.merge(doc.getBrand(), 1L, Long::sum);
+            if (doc.getCategory() != null) categories.merge(doc.getCategory(), 1L, Long::sum);
+        }
+        return SwitchFacets.of(matched.size(), types, manufacturers, categories);
+    }
+
+    /**
+     * 점수 내림차순으로 정렬된 매칭 문서 (타입/제조사 필터 적용)
+     */
+    private List<SwitchDocument> match(String keyword, SwitchType type, String manufacturer) {
+        Snapshot current = snapshot;
+        String normalized = keyword.trim().toLowerCase();
+        Map<Long, Float> scores = new HashMap<>();
+
+        // 1. nicknames 정확 매칭
+        addScores(scores, current.nicknameIndex.get(normalized), NICKNAME_BOOST);
+
+        // 2, 3. name / category 토큰 매칭
+        for (String token : tokenize(normalized)) {
+            addScores(scores, current.nameIndex.get(token), NAME_BOOST);
+            addScores(scores, current.categoryIndex.get(token), CATEGORY_BOOST);
+        }
+
+        // 4. 사전 별명 → 공식 키워드 구문 매칭
+        for (String phrase : switchNicknameService.expand(keyword)) {
+            List<String> phraseTokens = tokenize(phrase);
+            addScores(scores, phraseMatches(current, current.nameIndex, phraseTokens, SwitchDocument::getName), NICKNAME_BOOST);
+            addScores(scores, phraseMatches(current, current.categoryIndex, phraseTokens, SwitchDocument::getCategory), CATEGORY_BOOST);
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Float>comparingByValue().reversed()
+                        .thenComparing(entry -> current.documents.get(entry.getKey()).getDisplayName(),
+                                Comparator.nullsLast(Comparator.<String>naturalOrder())))
+                .map(entry -> current.documents.get(entry.getKey()))
+                .filter(doc -> type == null || type == doc.getType())
+                .filter(doc -> !StringUtils.hasText(manufacturer) || manufacturer.equals(doc.getBrand()))
+                .toList();
+    }
+
+    public int size() {
+        return snapshot.documents.size();
+    }
+
+    /**
+     * 구문 매칭: 역색인 교집합으로 후보를 좁힌 뒤 토큰이 연속으로 나오는지 확인
+     */
+    private static Set<Long> phraseMatches(Snapshot current, Map<String, Set<Long>> index, List<String> phraseTokens,
+                                           Function<SwitchDocument, String> field) {
+        if (phraseTokens.isEmpty()) return null;
+
+        Set<Long> candidates = null;
+        for (String token : phraseTokens) {
+            Set<Long> ids = index.get(token);
+            if (ids == null) return null;
+            if (candidates == null) {
+                candidates = new HashSet<>(ids);
+            } else {
+                candidates.retainAll(ids);
+            }
+        }
+
+        String phrase = " " + String.join(" ", phraseTokens) + " ";
+        candidates.removeIf(id -> !(" " + String.join(" ", tokenize(field.apply(current.documents.get(id)))) + " ").contains(phrase));
+        return candidates;
+    }
+
+    private static void addScores(Map<Long, Float> scores, Set<Long> ids, float boost) {
+        if (ids == null) return;
+        for (Long id : ids) {
+            scores.merge(id, boost, Float::sum);
+        }
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null) return Collections.emptyList();
+        return Arrays.stream(text.toLowerCase().split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    /**
+     * 불변 인덱스 스냅샷 (재구성 시 통째로 교체되므로 읽기 쪽은 락 없이 사용)
+     */
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), Map.of(), Map.of());
+
+        private final Map<Long, SwitchDocument> documents;
+        private final Map<String, Set<Long>> nicknameIndex;
+        private final Map<String, Set<Long>> nameIndex;
+        private final Map<String, Set<Long>> categoryIndex;
+
+        private Snapshot(Map<Long, SwitchDocument> documents, Map<String, Set<Long>> nicknameIndex,
+                         Map<String, Set<Long>> nameIndex, Map<String, Set<Long>> categoryIndex) {
+            this.documents = documents;
+            this.nicknameIndex = nicknameIndex;
+            this.nameIndex = nameIndex;
+            this.categoryIndex = categoryIndex;
+        }
+
+        private static Snapshot build(List<SwitchDocument> docs) {
+            Map<Long, SwitchDocument> documents = new HashMap<>();
+            Map<String, Set<Long>> nicknameIndex = new HashMap<>();
+            Map<String, Set<Long>> nameIndex = new HashMap<>();
+            Map<String, Set<Long>> categoryIndex = new HashMap<>();
+
+            for (SwitchDocument doc : docs) {
+                documents.put(doc.getId(), doc);
+                if (doc.getNicknames() != null) {
+                    doc.getNicknames().forEach(nickname -> put(nicknameIndex, nickname.toLowerCase(), doc.getId()));
+                }
+                tokenize(doc.getName()).forEach(token -> put(nameIndex, token, doc.getId()));
+                tokenize(doc.getCategory()).forEach(token -> put(categoryIndex, token, doc.getId()));
+            }
+
+            return new Snapshot(Map.copyOf(documents), Map.copyOf(nicknameIndex),
+                    Map.copyOf(nameIndex), Map.copyOf(categoryIndex));
+        }
+
+        private static void put(Map<String, Set<Long>> index, String key, Long id) {
+            index.computeIfAbsent(key, k -> new HashSet<>()).add(id);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.thockpick.infrastructure.search.fallback;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 검색 엔진 호출용 서킷 브레이커
+ * - CLOSED: 정상 호출, 연속 실패가 임계치에 도달하면 OPEN
+ * - OPEN: 호출 차단 (폴백 사용), openDuration 경과 후 HALF_OPEN
+ * - HALF_OPEN: 시험 요청 1건만 허용, 성공 시 CLOSED / 실패 시 다시 OPEN
+ *   (시험 요청이 ES 까지 가지 못하고 끝나면 release 로 되돌려 다음 요청이 다시 시험)
+ */
+public class SearchCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAtNanos;
+
+    public SearchCircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+    }
+
+    /**
+     * 이번 요청을 검색 엔진으로 보내도 되는지 판단
+     */
+    public boolean allowRequest() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && System.nanoTime() - openedAtNanos >= openDuration.toNanos()) {
+            // 여러 요청이 동시에 와도 시험 요청은 하나만 통과
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return false;
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        state.set(State.CLOSED);
+    }
+
+    public void recordFailure() {
+        if (state.get() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * 허용받은 요청이 결과 없이 끝난 경우 (대기열 초과, 인터럽트 등)
+     * - HALF_OPEN 시험 요청이었다면 OPEN 으로 되돌림 (대기 시간은 이미 지났으므로 다음 요청이 바로 시험)
+     * - 그대로 두면 HALF_OPEN 에서 allowRequest 가 계속 false 라 검색 엔진을 다시 쓰지 못함
+     */
+    public void release() {
+        state.compareAndSet(State.HALF_OPEN, State.OPEN);
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    private void open() {
+        openedAtNanos = System.nanoTime();
+        consecutiveFailures.set(0);
+        state.set(State.OPEN);
+    }
+}
@@ -0,0 +1,27 @@
+package com.thockpick.infrastructure.search.repository;
+
+import com.thockpick.domain.switches.SwitchFacets;
+import com.thockpick.domain.switches.SwitchType;
+import com.thockpick.infrastructure.search.document.SwitchDocument;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 스위치 검색 커스텀 Repository (ElasticsearchOperations 기반 쿼리)
+ */
+public interface SwitchSearchRepositoryCustom {
+
+    /**
+     * 별명/이름/카테고리를 한 번의 bool 쿼리로 검색 (관련도 순)
+     * 타입/제조사는 filter 절로 적용하고, 페이징은 from/size로 ES에서 처리
+     *
+     * @param type         스위치 타입 (null이면 전체)
+     * @param manufacturer 제조사 (null/empty면 전체)
+     */
+    Page<SwitchDocument> searchByKeyword(String keyword, SwitchType type, String manufacturer, Pageable pageable);
+
+    /**
+     * 키워드 + 필터 조건에 맞는 문서의 타입/제조사/카테고리별 개수 (terms 집계 한 번, 문서 본문은 받지 않음)
+     */
+    SwitchFacets aggregateFacets(String keyword, SwitchType type, String manufacturer);
+}
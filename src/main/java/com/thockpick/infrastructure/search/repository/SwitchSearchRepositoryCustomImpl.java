@@ -0,0 +1,139 @@
+package com.thockpick.infrastructure.search.repository;
+
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import com.thockpick.application.switches.SwitchNicknameService;
+import com.thockpick.domain.switches.SwitchFacets;
+import com.thockpick.domain.switches.SwitchType;
+import com.thockpick.infrastructure.search.document.SwitchDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregation;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.util.StringUtils;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class SwitchSearchRepositoryCustomImpl implements SwitchSearchRepositoryCustom {
+
+    // 별명 정확 매칭 > 이름 > 카테고리 순으로 가중치 부여
+    private static final float NICKNAME_BOOST = 3.0f;
+    private static final float NAME_BOOST = 2.0f;
+    private static final float CATEGORY_BOOST = 1.0f;
+
+    // 패싯 집계 이름 / 버킷 수
+    private static final String TYPE_FACET = "types";
+    private static final String MANUFACTURER_FACET = "manufacturers";
+    private static final String CATEGORY_FACET = "categories";
+    private static final int FACET_SIZE = 200;
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final SwitchNicknameService switchNicknameService;
+
+    @Override
+    public Page<SwitchDocument> searchByKeyword(String keyword, SwitchType type, String manufacturer, Pageable pageable) {
+        // 정렬은 ES 관련도 점수를 그대로 사용 (이름 정렬로 덮어쓰지 않음)
+        Pageable scorePageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(filteredQuery(keyword, type, manufacturer))
+                .withPageable(scorePageable)
+                .withTrackTotalHits(true)
+                .build();
+
+        // 문서당 hit 하나이므로 중복 제거와 점수 정렬은 ES에서 끝남
+        SearchHits<SwitchDocument> hits = elasticsearchOperations.search(query, SwitchDocument.class);
+        List<SwitchDocument> content = hits.getSearchHits().stream()
+                .map(SearchHit::getContent)
+                .toList();
+
+        return new PageImpl<>(content, scorePageable, hits.getTotalHits());
+    }
+
+    @Override
+    public SwitchFacets aggregateFacets(String keyword, SwitchType type, String manufacturer) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(filteredQuery(keyword, type, manufacturer))
+                .withAggregation(TYPE_FACET, termsAggregation("type"))
+                .withAggregation(MANUFACTURER_FACET, termsAggregation("brand"))
+                .withAggregation(CATEGORY_FACET, termsAggregation("category.keyword"))
+                .withMaxResults(0)
+                .withTrackTotalHits(true)
+                .build();
+
+        SearchHits<SwitchDocument> hits = elasticsearchOperations.search(query, SwitchDocument.class);
+        ElasticsearchAggregations aggregations = (ElasticsearchAggregations) hits.getAggregations();
+
+        Map<SwitchType, Long> types = new EnumMap<>(SwitchType.class);
+        buckets(aggregations, TYPE_FACET).forEach((key, count) -> types.put(SwitchType.valueOf(key), count));
+
+        return SwitchFacets.of(hits.getTotalHits(), types,
+                buckets(aggregations, MANUFACTURER_FACET),
+                buckets(aggregations, CATEGORY_FACET));
+    }
+
+    /**
+     * 키워드 bool 쿼리 + 타입/제조사 filter 절
+     */
+    private Query filteredQuery(String keyword, SwitchType type, String manufacturer) {
+        return Query.of(q -> q.bool(b -> {
+            b.must(m -> m.bool(keywordQuery(keyword)));
+
+            // 나머지 필터 조건 (타입, 제조사)은 점수에 영향 없는 filter 절로 적용
+            if (type != null) {
+                b.filter(f -> f.term(t -> t.field("type").value(type.name())));
+            }
+            if (StringUtils.hasText(manufacturer)) {
+                b.filter(f -> f.term(t -> t.field("brand").value(manufacturer)));
+            }
+            return b;
+        }));
+    }
+
+    private BoolQuery keywordQuery(String keyword) {
+        return BoolQuery.of(b -> {
+            b
+                    // 1. nicknames(이름 속 한글 표기)에서 정확 매칭 (Keyword 타입)
+                    .should(s -> s.term(t -> t.field("nicknames").value(keyword).boost(NICKNAME_BOOST)))
+                    // 2. name에서 형태소 분석 매칭 (Text 타입)
+                    .should(s -> s.match(m -> m.field("name").query(keyword).boost(NAME_BOOST)))
+                    // 3. category에서 형태소 분석 매칭 (Text 타입)
+                    .should(s -> s.match(m -> m.field("category").query(keyword).boost(CATEGORY_BOOST)));
+
+            // 4. 사전 별명 → 공식 키워드로 확장해 name/category 구문 매칭 (예: "적축 저소음" → "Red")
+            for (String phrase : switchNicknameService.expand(keyword)) {
+                b.should(s -> s.matchPhrase(m -> m.field("name").query(phrase).boost(NICKNAME_BOOST)));
+                b.should(s -> s.matchPhrase(m -> m.field("category").query(phrase).boost(CATEGORY_BOOST)));
+            }
+            return b.minimumShouldMatch("1");
+        });
+    }
+
+    private Aggregation termsAggregation(String field) {
+        return Aggregation.of(a -> a.terms(t -> t.field(field).size(FACET_SIZE)));
+    }
+
+    private Map<String, Long> buckets(ElasticsearchAggregations aggregations, String name) {
+        Map<String, Long> counts = new HashMap<>();
+        if (aggregations == null) return counts;
+
+        ElasticsearchAggregation aggregation = aggregations.aggregationsAsMap().get(name);
+        if (aggregation == null) return counts;
+
+        aggregation.aggregation().getAggregate().sterms().buckets().array()
+                .forEach(bucket -> counts.put(bucket.key().stringValue(), bucket.docCount()));
+        return counts;
+    }
+}
@@ -0,0 +1,182 @@
+package com.thockpick.infrastructure.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.thockpick.infrastructure.search.document.SwitchDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.RestClient;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 전체 동기화용 ES bulk 색인기
+ * - 문서를 최대 500건 또는 5MB 단위로 묶어 _bulk 요청 (문서마다 HTTP 요청 + refresh 하지 않음)
+ * - beginBulkLoad ~ endBulkLoad 사이에는 refresh_interval 을 끄고, 끝날 때 설정을 지워 기본값으로 되돌린 뒤 한 번만 refresh
+ *   (값을 "1s" 로 명시하면 검색이 없는 샤드의 refresh 를 건너뛰는 search-idle 이 꺼지므로 null 로 초기화)
+ * - 시트에서 사라진 스위치 문서는 delete 로 같은 단위 bulk 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SwitchBulkIndexer {
+
+    private static final int MAX_DOCS_PER_BULK = 500;
+    private static final long MAX_BYTES_PER_BULK = 5L * 1024 * 1024;
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchClient elasticsearchClient;
+    private final RestClient restClient; // 설정 null 초기화용 (타입 API 로는 null 을 보낼 수 없음)
+
+    /**
+     * 대량 색인 시작 (refresh 비활성화, 실패해도 색인은 계속 진행)
+     */
+    public void beginBulkLoad() {
+        beginBulkLoad(indexCoordinates());
+    }
+
+    public void beginBulkLoad(IndexCoordinates coordinates) {
+        updateRefreshInterval(coordinates, "-1");
+    }
+
+    /**
+     * 대량 색인 종료 (refresh 설정을 기본값으로 복구 + 명시적 refresh 한 번)
+     */
+    public void endBulkLoad() {
+        endBulkLoad(indexCoordinates());
+    }
+
+    public void endBulkLoad(IndexCoordinates coordinates) {
+        resetRefreshInterval(coordinates);
+        try {
+            elasticsearchOperations.indexOps(coordinates).refresh();
+        } catch (Exception e) {
+            log.warn("Elasticsearch refresh 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 문서 bulk 색인
+     *
+     * @return 색인에 실패한 문서 목록 (전부 성공하면 빈 목록)
+     */
+    public List<SwitchIndexFailure> index(List<SwitchDocument> documents) {
+        return index(documents, indexCoordinates());
+    }
+
+    /**
+     * 지정한 인덱스에 문서 bulk 색인 (재색인 시 새 버전 인덱스에 적재)
+     *
+     * @return 색인에 실패한 문서 목록 (전부 성공하면 빈 목록)
+     */
+    public List<SwitchIndexFailure> index(List<SwitchDocument> documents, IndexCoordinates coordinates) {
+        List<SwitchIndexFailure> failures = new ArrayList<>();
+        List<IndexQuery> batch = new ArrayList<>();
+        long batchBytes = 0;
+
+        for (SwitchDocument document : documents) {
+            String source = elasticsearchOperations.getElasticsearchConverter().mapObject(document).toJson();
+            long bytes = source.getBytes(StandardCharsets.UTF_8).length;
+
+            if (!batch.isEmpty() && (batch.size() >= MAX_DOCS_PER_BULK || batchBytes + bytes > MAX_BYTES_PER_BULK)) {
+                failures.addAll(send(batch, coordinates));
+                batch = new ArrayList<>();
+                batchBytes = 0;
+            }
+
+            batch.add(new IndexQueryBuilder()
+                    .withId(String.valueOf(document.getId()))
+                    .withSource(source)
+                    .build());
+            batchBytes += bytes;
+        }
+        if (!batch.isEmpty()) {
+            failures.addAll(send(batch, coordinates));
+        }
+        return failures;
+    }
+
+    /**
+     * 문서 bulk 삭제 (MAX_DOCS_PER_BULK 건씩, 이미 없는 문서는 성공으로 처리)
+     *
+     * @return 삭제에 실패한 문서 목록 (전부 성공하면 빈 목록)
+     */
+    public List<SwitchIndexFailure> delete(List<Long> ids) {
+        List<SwitchIndexFailure> failures = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += MAX_DOCS_PER_BULK) {
+            List<Long> batch = ids.subList(from, Math.min(from + MAX_DOCS_PER_BULK, ids.size()));
+            try {
+                BulkResponse response = elasticsearchClient.bulk(request -> request
+                        .index(indexCoordinates().getIndexName())
+                        .operations(batch.stream()
+                                .map(id -> BulkOperation.of(operation -> operation.delete(delete -> delete.id(String.valueOf(id)))))
+                                .toList()));
+                for (BulkResponseItem item : response.items()) {
+                    if (item.error() != null && item.status() != 404) {
+                        failures.add(new SwitchIndexFailure(item.id(), item.error().reason()));
+                    }
+                }
+            } catch (Exception e) {
+                log.error("Elasticsearch bulk 삭제 요청 실패 ({}건): {}", batch.size(), e.getMessage());
+                batch.forEach(id -> failures.add(new SwitchIndexFailure(String.valueOf(id), e.getMessage())));
+            }
+        }
+        return failures;
+    }
+
+    private List<SwitchIndexFailure> send(List<IndexQuery> batch, IndexCoordinates coordinates) {
+        try {
+            elasticsearchOperations.withRefreshPolicy(RefreshPolicy.NONE)
+                    .bulkIndex(batch, coordinates);
+            return List.of();
+        } catch (BulkFailureException e) {
+            // 항목별 실패: 나머지 문서는 색인됨
+            List<SwitchIndexFailure> failures = new ArrayList<>();
+            e.getFailedDocuments().forEach((id, reason) -> failures.add(new SwitchIndexFailure(id, String.valueOf(reason))));
+            log.warn("Elasticsearch bulk 색인 일부 실패: {}/{}건", failures.size(), batch.size());
+            return failures;
+        } catch (Exception e) {
+            // 요청 자체 실패: 묶음 전체를 실패로 보고
+            log.error("Elasticsearch bulk 요청 실패 ({}건): {}", batch.size(), e.getMessage());
+            return batch.stream()
+                    .map(query -> new SwitchIndexFailure(query.getId(), e.getMessage()))
+                    .toList();
+        }
+    }
+
+    private void updateRefreshInterval(IndexCoordinates coordinates, String interval) {
+        try {
+            elasticsearchClient.indices().putSettings(request -> request
+                    .index(coordinates.getIndexName())
+                    .settings(settings -> settings.refreshInterval(time -> time.time(interval))));
+        } catch (Exception e) {
+            log.warn("Elasticsearch refresh_interval 변경 실패 ({}): {}", interval, e.getMessage());
+        }
+    }
+
+    private void resetRefreshInterval(IndexCoordinates coordinates) {
+        try {
+            Request request = new Request("PUT", "/" + coordinates.getIndexName() + "/_settings");
+            request.setJsonEntity("{\"index\":{\"refresh_interval\":null}}");
+            restClient.performRequest(request);
+        } catch (Exception e) {
+            log.warn("Elasticsearch refresh_interval 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    private IndexCoordinates indexCoordinates() {
+        return elasticsearchOperations.getIndexCoordinatesFor(SwitchDocument.class);
+    }
+}
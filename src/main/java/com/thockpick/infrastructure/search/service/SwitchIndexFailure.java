@@ -0,0 +1,15 @@
+package com.thockpick.infrastructure.search.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * bulk 색인 실패 항목 (문서 ID + ES 가 돌려준 사유)
+ */
+@Getter
+@AllArgsConstructor
+public class SwitchIndexFailure {
+
+    private final String id;
+    private final String reason;
+}
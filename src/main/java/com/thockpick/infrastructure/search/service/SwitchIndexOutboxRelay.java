@@ -0,0 +1,225 @@
+package com.thockpick.infrastructure.search.service;
+
+import com.thockpick.domain.switches.Switch;
+import com.thockpick.domain.switches.SwitchIndexOutbox;
+import com.thockpick.domain.switches.SwitchIndexOutboxRepository;
+import com.thockpick.domain.switches.SwitchRepository;
+import com.thockpick.infrastructure.search.document.SwitchDocumentMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검색 색인 outbox 릴레이
+ * - 대기 항목을 BATCH_SIZE 개씩 읽어 스위치별 마지막 요청으로 합친 뒤 ES _bulk 로 반영 (색인/삭제)
+ * - 성공한 항목은 삭제, 실패한 항목은 지수 백오프 후 재시도, maxAttempts 초과 시 DEAD 로 보관
+ * - 주기 실행 외에 동기화 직후 drainAll 로 바로 반영할 수 있음 (동시에 한 스레드만 반영)
+ * - 전체 재색인 동안은 pause 로 반영을 멈춤 (별칭 전환 전 이전 인덱스에 쓴 변경이 사라지지 않도록, 항목은 대기 상태로 남음)
+ * - 지표: search.outbox.pending / search.outbox.dead / search.outbox.lag (초), search.outbox.dispatched / search.outbox.failed
+ *   (대기/DEAD 건수와 가장 오래된 대기 시각은 반영 주기마다 한 번 조회해 두고, 지표 수집 시에는 DB 를 조회하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SwitchIndexOutboxRelay {
+
+    private static final int BATCH_SIZE = 500;
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+
+    private final SwitchIndexOutboxRepository outboxRepository;
+    private final SwitchRepository switchRepository;
+    private final SwitchDocumentMapper switchDocumentMapper;
+    private final SwitchBulkIndexer switchBulkIndexer;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${search.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${search.outbox.initial-backoff:1s}")
+    private Duration initialBackoff;
+
+    private Counter dispatchedCounter;
+    private Counter failedCounter;
+    private volatile boolean paused;
+
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong deadCount = new AtomicLong();
+    private volatile LocalDateTime oldestPendingCreatedAt;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("search.outbox.pending", pendingCount, AtomicLong::get)
+                .description("ES 반영 대기 중인 outbox 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("search.outbox.dead", deadCount, AtomicLong::get)
+                .description("최대 재시도를 넘긴 outbox 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("search.outbox.lag", this, relay -> relay.lagSeconds())
+                .description("가장 오래된 대기 항목의 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        dispatchedCounter = meterRegistry.counter("search.outbox.dispatched");
+        failedCounter = meterRegistry.counter("search.outbox.failed");
+    }
+
+    @Scheduled(fixedDelayString = "${search.outbox.poll-interval:1s}")
+    public void poll() {
+        try {
+            drainAll();
+        } catch (Exception e) {
+            log.error("outbox 반영 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 반영 중지 (진행 중인 반영이 끝날 때까지 기다린 뒤 반환)
+     */
+    public synchronized void pause() {
+        paused = true;
+        log.info("outbox 반영 중지");
+    }
+
+    public synchronized void resume() {
+        paused = false;
+        log.info("outbox 반영 재개");
+    }
+
+    /**
+     * 지금 반영할 항목이 없을 때까지 반복 반영 (중지 상태면 반영하지 않음)
+     * 반영 여부와 관계없이 마지막에 지표용 대기/DEAD 현황을 갱신 (중지 중에도 쌓이는 대기 항목이 보이도록)
+     */
+    public synchronized DrainResult drainAll() {
+        DrainResult total = new DrainResult();
+        try {
+            if (paused) {
+                return total;
+            }
+            DrainResult batch;
+            do {
+                batch = drainBatch();
+                total.add(batch);
+            } while (batch.getEntryCount() == BATCH_SIZE);
+            return total;
+        } finally {
+            refreshBacklog();
+        }
+    }
+
+    /**
+     * 지표용 대기/DEAD 건수와 가장 오래된 대기 시각 갱신 (실패 시 이전 값 유지)
+     */
+    private void refreshBacklog() {
+        try {
+            pendingCount.set(outboxRepository.countByStatus(SwitchIndexOutbox.Status.PENDING));
+            deadCount.set(outboxRepository.countByStatus(SwitchIndexOutbox.Status.DEAD));
+            oldestPendingCreatedAt = outboxRepository.findOldestPendingCreatedAt().orElse(null);
+        } catch (Exception e) {
+            log.warn("outbox 지표 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private double lagSeconds() {
+        LocalDateTime oldest = oldestPendingCreatedAt;
+        return oldest == null ? 0.0 : Duration.between(oldest, LocalDateTime.now()).toSeconds();
+    }
+
+    private DrainResult drainBatch() {
+        List<SwitchIndexOutbox> entries = outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                SwitchIndexOutbox.Status.PENDING, LocalDateTime.now(), PageRequest.ofSize(BATCH_SIZE));
+        DrainResult result = new DrainResult();
+        if (entries.isEmpty()) {
+            return result;
+        }
+
+        // 1. 스위치별 마지막 요청만 반영 (같은 배치 안의 UPSERT 후 DELETE 등)
+        Map<Long, SwitchIndexOutbox.Operation> lastOperation = new LinkedHashMap<>();
+        entries.forEach(entry -> lastOperation.put(entry.getSwitchId(), entry.getOperation()));
+
+        List<Long> upsertIds = new ArrayList<>();
+        List<Long> deleteIds = new ArrayList<>();
+        lastOperation.forEach((switchId, operation) ->
+                (operation == SwitchIndexOutbox.Operation.UPSERT ? upsertIds : deleteIds).add(switchId));
+
+        // 2. 색인할 스위치 조회 (그새 삭제된 스위치는 문서도 삭제)
+        Map<Long, Switch> switches = new HashMap<>();
+        switchRepository.findAllById(upsertIds).forEach(entity -> switches.put(entity.getId(), entity));
+        upsertIds.stream().filter(id -> !switches.containsKey(id)).forEach(deleteIds::add);
+
+        List<SwitchIndexFailure> failures = new ArrayList<>(switchBulkIndexer.index(switches.values().stream()
+                .map(switchDocumentMapper::toDocument)
+                .toList()));
+        failures.addAll(switchBulkIndexer.delete(deleteIds));
+
+        // 3. 성공 항목 삭제, 실패 항목 재시도 예약
+        Map<String, String> failedReasons = new HashMap<>();
+        failures.forEach(failure -> failedReasons.putIfAbsent(failure.getId(), failure.getReason()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<SwitchIndexOutbox> succeeded = new ArrayList<>();
+            for (SwitchIndexOutbox entry : entries) {
+                String reason = failedReasons.get(String.valueOf(entry.getSwitchId()));
+                if (reason == null) {
+                    succeeded.add(entry);
+                    continue;
+                }
+                SwitchIndexOutbox managed = outboxRepository.save(entry);
+                managed.markFailed(reason, LocalDateTime.now().plus(backoff(entry.getAttempts() + 1)), maxAttempts);
+                if (managed.getStatus() == SwitchIndexOutbox.Status.DEAD) {
+                    log.error("outbox 항목 최대 재시도 초과 (스위치 ID: {}, {}): {}", entry.getSwitchId(), entry.getOperation(), reason);
+                }
+            }
+            outboxRepository.deleteAllInBatch(succeeded);
+        });
+
+        int dispatched = lastOperation.size() - failedReasons.size();
+        dispatchedCounter.increment(dispatched);
+        failedCounter.increment(failedReasons.size());
+        if (!failures.isEmpty()) {
+            log.warn("outbox 반영 일부 실패: {}/{}건 (재시도 예약)", failedReasons.size(), lastOperation.size());
+        }
+
+        result.entryCount = entries.size();
+        result.dispatchedCount = dispatched;
+        result.failures.addAll(failures);
+        return result;
+    }
+
+    /**
+     * n 번째 실패 후 대기 시간 (initialBackoff * 2^(n-1), 최대 MAX_BACKOFF)
+     */
+    private Duration backoff(int attempt) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+
+    /**
+     * 반영 결과 (처리한 outbox 항목 수, ES 반영 성공 스위치 수, 실패 항목)
+     */
+    @Getter
+    public static final class DrainResult {
+        private int entryCount;
+        private int dispatchedCount;
+        private final List<SwitchIndexFailure> failures = new ArrayList<>();
+
+        private void add(DrainResult other) {
+            entryCount += other.entryCount;
+            dispatchedCount += other.dispatchedCount;
+            failures.addAll(other.failures);
+        }
+    }
+}
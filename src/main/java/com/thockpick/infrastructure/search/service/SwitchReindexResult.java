@@ -0,0 +1,20 @@
+package com.thockpick.infrastructure.search.service;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 전체 재색인 결과
+ */
+@Getter
+@Builder
+public class SwitchReindexResult {
+    private String indexName;                        // 새로 만든 버전 인덱스 (예: switches_v3)
+    private List<String> previousIndices;            // 별칭에서 빠지고 삭제된 이전 인덱스
+    private int documentCount;                       // 적재 대상 문서 수 (DB 스위치 수)
+    private int indexedCount;                        // 색인 성공 문서 수
+    private boolean swapped;                         // 별칭 전환 여부 (색인 실패가 있으면 전환하지 않음)
+    private List<SwitchIndexFailure> indexFailures;  // 색인 실패 문서 (ID + 사유)
+}
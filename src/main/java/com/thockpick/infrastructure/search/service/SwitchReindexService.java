@@ -0,0 +1,179 @@
+package com.thockpick.infrastructure.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import com.thockpick.domain.switches.Switch;
+import com.thockpick.domain.switches.SwitchRepository;
+import com.thockpick.infrastructure.search.document.SwitchDocument;
+import com.thockpick.infrastructure.search.document.SwitchDocumentMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 무중단 전체 재색인
+ * - 검색/색인은 별칭(switches)으로만 접근하고, 실제 데이터는 버전 인덱스(switches_vN)에 둠
+ * - 새 버전 인덱스를 현재 SwitchDocument 매핑/설정으로 만들고 DB 스위치를 ID 순 페이지로 읽어 bulk 적재
+ * - 적재가 끝나면 별칭을 한 번의 _aliases 요청으로 새 인덱스로 옮기고 이전 인덱스 삭제
+ *   (별칭 도입 전의 실제 인덱스 switches 는 같은 요청의 remove_index 로 교체)
+ * - 시트에서 사라진 스위치 문서, 매핑 변경 전 문서가 함께 정리됨
+ * - 재색인 동안 outbox 릴레이를 멈춰 별칭(= 이전 인덱스)으로 쓰는 변경이 없도록 함
+ *   (멈춘 동안 쌓인 항목은 재개 후 새 인덱스에 반영, 시트 동기화/행 동기화는 작업 관리자가 거절)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SwitchReindexService {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final SwitchRepository switchRepository;
+    private final SwitchDocumentMapper switchDocumentMapper;
+    private final SwitchBulkIndexer switchBulkIndexer;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchClient elasticsearchClient;
+    private final SwitchIndexOutboxRelay switchIndexOutboxRelay;
+
+    /**
+     * 전체 재색인 (색인 실패가 있으면 별칭을 옮기지 않고 새 인덱스 삭제)
+     *
+     * @param onIndexed 페이지마다 색인 성공 문서 수를 전달 (진행 상황 기록용)
+     */
+    public SwitchReindexResult reindex(IntConsumer onIndexed) throws IOException {
+        switchIndexOutboxRelay.pause();
+        try {
+            return reindexPaused(onIndexed);
+        } finally {
+            switchIndexOutboxRelay.resume();
+        }
+    }
+
+    private SwitchReindexResult reindexPaused(IntConsumer onIndexed) throws IOException {
+        String alias = elasticsearchOperations.getIndexCoordinatesFor(SwitchDocument.class).getIndexName();
+        IndexCoordinates target = IndexCoordinates.of(alias + "_v" + nextVersion(alias));
+        log.info("스위치 전체 재색인 시작: {}", target.getIndexName());
+
+        createIndex(target);
+        try {
+            int documentCount = 0;
+            List<SwitchIndexFailure> failures = new ArrayList<>();
+
+            switchBulkIndexer.beginBulkLoad(target);
+            try {
+                long lastId = 0;
+                Slice<Switch> page;
+                do {
+                    page = switchRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.ofSize(PAGE_SIZE));
+                    List<SwitchDocument> documents = page.getContent().stream()
+                            .map(switchDocumentMapper::toDocument)
+                            .toList();
+                    List<SwitchIndexFailure> pageFailures = switchBulkIndexer.index(documents, target);
+
+                    failures.addAll(pageFailures);
+                    documentCount += documents.size();
+                    onIndexed.accept(documents.size() - pageFailures.size());
+                    if (!documents.isEmpty()) {
+                        lastId = documents.get(documents.size() - 1).getId();
+                    }
+                } while (page.hasNext());
+            } finally {
+                switchBulkIndexer.endBulkLoad(target);
+            }
+
+            SwitchReindexResult.SwitchReindexResultBuilder result = SwitchReindexResult.builder()
+                    .indexName(target.getIndexName())
+                    .documentCount(documentCount)
+                    .indexedCount(documentCount - failures.size())
+                    .indexFailures(failures);
+
+            if (!failures.isEmpty()) {
+                log.warn("재색인 중 {}건 색인 실패, 별칭을 전환하지 않고 {} 삭제", failures.size(), target.getIndexName());
+                deleteIndices(List.of(target.getIndexName()));
+                return result.swapped(false).previousIndices(List.of()).build();
+            }
+
+            List<String> previousIndices = swapAlias(alias, target.getIndexName());
+            deleteIndices(previousIndices.stream().filter(index -> !index.equals(alias)).toList());
+            log.info("스위치 전체 재색인 완료: {} ({}건), 이전 인덱스 {}", target.getIndexName(), documentCount, previousIndices);
+            return result.swapped(true).previousIndices(previousIndices).build();
+
+        } catch (IOException | RuntimeException e) {
+            // 별칭 전환 전 실패: 새 인덱스만 정리 (검색은 기존 인덱스로 계속 동작)
+            deleteIndices(List.of(target.getIndexName()));
+            throw e;
+        }
+    }
+
+    /**
+     * 기존 버전 인덱스(alias_vN) 중 가장 큰 N + 1
+     */
+    private int nextVersion(String alias) throws IOException {
+        Pattern versioned = Pattern.compile(Pattern.quote(alias) + "_v(\\d+)");
+        int max = 0;
+        for (String index : elasticsearchClient.indices().get(request -> request.index(alias + "_v*")).result().keySet()) {
+            Matcher matcher = versioned.matcher(index);
+            if (matcher.matches()) {
+                max = Math.max(max, Integer.parseInt(matcher.group(1)));
+            }
+        }
+        return max + 1;
+    }
+
+    /**
+     * SwitchDocument 의 설정/매핑으로 새 인덱스 생성
+     */
+    private void createIndex(IndexCoordinates target) {
+        IndexOperations documentIndexOps = elasticsearchOperations.indexOps(SwitchDocument.class);
+        elasticsearchOperations.indexOps(target).create(
+                documentIndexOps.createSettings(SwitchDocument.class),
+                documentIndexOps.createMapping(SwitchDocument.class));
+    }
+
+    /**
+     * 별칭을 새 인덱스로 원자적으로 전환
+     *
+     * @return 전환 전 별칭이 가리키던 인덱스 (별칭 도입 전이면 같은 이름의 실제 인덱스)
+     */
+    private List<String> swapAlias(String alias, String newIndex) throws IOException {
+        List<String> previousIndices = new ArrayList<>();
+        List<Action> actions = new ArrayList<>();
+        actions.add(Action.of(action -> action.add(add -> add.index(newIndex).alias(alias))));
+
+        if (elasticsearchClient.indices().existsAlias(request -> request.name(alias)).value()) {
+            for (String index : elasticsearchClient.indices().getAlias(request -> request.name(alias)).result().keySet()) {
+                previousIndices.add(index);
+                actions.add(Action.of(action -> action.remove(remove -> remove.index(index).alias(alias))));
+            }
+        } else if (elasticsearchClient.indices().exists(request -> request.index(alias)).value()) {
+            // 별칭 도입 전 실제 인덱스: 같은 이름의 별칭을 만들 수 있도록 같은 요청에서 삭제
+            previousIndices.add(alias);
+            actions.add(Action.of(action -> action.removeIndex(remove -> remove.index(alias))));
+        }
+
+        elasticsearchClient.indices().updateAliases(request -> request.actions(actions));
+        return previousIndices;
+    }
+
+    private void deleteIndices(List<String> indices) {
+        if (indices.isEmpty()) {
+            return;
+        }
+        try {
+            elasticsearchClient.indices().delete(request -> request.index(indices));
+        } catch (Exception e) {
+            log.warn("Elasticsearch 인덱스 삭제 실패 ({}): {}", indices, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.thockpick.infrastructure.search.service;
+
+import com.thockpick.domain.switches.SwitchFacets;
+import com.thockpick.domain.switches.SwitchType;
+import com.thockpick.infrastructure.search.document.SwitchDocument;
+import com.thockpick.infrastructure.search.fallback.FallbackPage;
+import com.thockpick.infrastructure.search.fallback.FallbackSwitchFacets;
+import com.thockpick.infrastructure.search.fallback.InMemorySwitchIndex;
+import com.thockpick.infrastructure.search.fallback.SearchCircuitBreaker;
+import com.thockpick.infrastructure.search.repository.SwitchSearchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 스위치 키워드 검색 진입점
+ * - Elasticsearch 호출을 짧은 타임아웃 + 서킷 브레이커로 감싸고
+ * - ES가 느리거나 죽어 있으면 메모리 폴백 인덱스(InMemorySwitchIndex)로 응답
+ *   (폴백 결과는 FallbackSearchResult 로 표시해 검색 캐시에 남지 않게 함)
+ */
+@Slf4j
+@Service
+public class SwitchSearchGateway {
+
+    private final SwitchSearchRepository searchRepository;
+    private final InMemorySwitchIndex fallbackIndex;
+    private final SearchCircuitBreaker circuitBreaker;
+    private final Duration timeout;
+    private final ExecutorService executor;
+
+    public SwitchSearchGateway(SwitchSearchRepository searchRepository,
+                               InMemorySwitchIndex fallbackIndex,
+                               @Value("${search.circuit-breaker.timeout:800ms}") Duration timeout,
+                               @Value("${search.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                               @Value("${search.circuit-breaker.open-duration:30s}") Duration openDuration,
+                               @Value("${search.circuit-breaker.max-concurrency:16}") int maxConcurrency) {
+        this.searchRepository = searchRepository;
+        this.fallbackIndex = fallbackIndex;
+        this.circuitBreaker = new SearchCircuitBreaker(failureThreshold, openDuration);
+        this.timeout = timeout;
+        // 동시 ES 호출 수를 제한 (대기열이 차면 바로 폴백)
+        this.executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(maxConcurrency * 4),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "es-search");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public Page<SwitchDocument> searchByKeyword(String keyword, SwitchType type, String manufacturer, Pageable pageable) {
+        return call(() -> searchRepository.searchByKeyword(keyword, type, manufacturer, pageable),
+                () -> FallbackPage.of(fallbackIndex.search(keyword, type, manufacturer, pageable)));
+    }
+
+    public SwitchFacets aggregateFacets(String keyword, SwitchType type, String manufacturer) {
+        return call(() -> searchRepository.aggregateFacets(keyword, type, manufacturer),
+                () -> FallbackSwitchFacets.of(fallbackIndex.facets(keyword, type, manufacturer)));
+    }
+
+    public SearchCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    /**
+     * ES 호출을 타임아웃 + 서킷 브레이커로 감싸고, 실패/차단 시 폴백 결과 반환
+     */
+    private <T> T call(Callable<T> primary, Supplier<T> fallback) {
+        if (!circuitBreaker.allowRequest()) {
+            return fallback(fallback);
+        }
+
+        Future<T> future;
+        try {
+            future = executor.submit(primary);
+        } catch (RejectedExecutionException e) {
+            circuitBreaker.release();
+            log.warn("ES 검색 대기열 초과, 폴백 인덱스 사용");
+            return fallback(fallback);
+        }
+
+        try {
+            T result = future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            circuitBreaker.recordSuccess();
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            circuitBreaker.recordFailure();
+            log.warn("ES 검색 타임아웃 ({}ms), 폴백 인덱스 사용", timeout.toMillis());
+        } catch (ExecutionException e) {
+            circuitBreaker.recordFailure();
+            log.warn("ES 검색 실패, 폴백 인덱스 사용: {}", e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            circuitBreaker.release();
+            Thread.currentThread().interrupt();
+        }
+        return fallback(fallback);
+    }
+
+    private <T> T fallback(Supplier<T> fallback) {
+        log.debug("폴백 검색 (circuit: {}, 인덱스 {}건)", circuitBreaker.getState(), fallbackIndex.size());
+        return fallback.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
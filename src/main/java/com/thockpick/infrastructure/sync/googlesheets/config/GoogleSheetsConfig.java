@@ -0,0 +1,47 @@
+package com.thockpick.infrastructure.sync.googlesheets.config;
+
+import com.google.api.client.googleapis.apache.v2.GoogleApacheHttpTransport;
+import com.google.api.client.googleapis.services.CommonGoogleClientRequestInitializer;
+import com.google.api.client.http.HttpRequestInitializer;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.sheets.v4.Sheets;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+
+/**
+ * Google Sheets 클라이언트 설정
+ * - Apache HttpClient 기반 전송 계층을 앱 전체에서 하나만 사용 (커넥션 풀 + keep-alive 재사용)
+ * - 연결/읽기 타임아웃은 application.yml 의 google.sheets.connect-timeout / read-timeout
+ */
+@Configuration
+public class GoogleSheetsConfig {
+
+    private static final String APPLICATION_NAME = "Thock Pick";
+
+    @Bean(destroyMethod = "shutdown")
+    public HttpTransport googleSheetsHttpTransport() throws GeneralSecurityException, IOException {
+        return GoogleApacheHttpTransport.newTrustedTransport();
+    }
+
+    @Bean
+    public Sheets sheets(HttpTransport googleSheetsHttpTransport,
+                         @Value("${google.sheets.api-key}") String apiKey,
+                         @Value("${google.sheets.connect-timeout:5s}") Duration connectTimeout,
+                         @Value("${google.sheets.read-timeout:30s}") Duration readTimeout) {
+        HttpRequestInitializer timeouts = request -> {
+            request.setConnectTimeout((int) connectTimeout.toMillis());
+            request.setReadTimeout((int) readTimeout.toMillis());
+        };
+
+        return new Sheets.Builder(googleSheetsHttpTransport, GsonFactory.getDefaultInstance(), timeouts)
+                .setApplicationName(APPLICATION_NAME)
+                .setGoogleClientRequestInitializer(new CommonGoogleClientRequestInitializer(apiKey))
+                .build();
+    }
+}
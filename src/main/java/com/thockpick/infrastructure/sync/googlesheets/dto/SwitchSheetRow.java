@@ -9,7 +9,12 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -54,9 +59,7 @@ public class SwitchSheetRow {
         // 데이터 정제
         String cleanName = cleanString(rawName);
 
-        // 시트 이름 정제 (예: "체리(9)" -> "체리", "Outemu(오테뮤)&Gazzew(4)" -> "Outemu(오테뮤)&Gazzew")
-        // 괄호 안에 숫자가 있는 패턴만 제거하거나, 단순히 마지막 괄호 덩어리를 제거
-        String cleanCategory = sheetTitle.replaceAll("\\([0-9]+\\)$", "").trim();
+        String cleanCategory = categoryOf(sheetTitle);
 
         // 키압과 소재는 복합 데이터이므로 먼저 파싱
         String keyPressure = getStringValue(values, headerMap, "키압");
@@ -90,6 +93,42 @@ public class SwitchSheetRow {
                 .build();
     }
 
+    /**
+     * 시트 이름 정제 (예: "체리(9)" -> "체리", "Outemu(오테뮤)&Gazzew(4)" -> "Outemu(오테뮤)&Gazzew")
+     * 괄호 안에 숫자가 있는 패턴만 제거하거나, 단순히 마지막 괄호 덩어리를 제거
+     */
+    public static String categoryOf(String sheetTitle) {
+        return sheetTitle.replaceAll("\\([0-9]+\\)$", "").trim();
+    }
+
+    /**
+     * 행 위치와 무관한 식별 키 (탭 카테고리 + 정규화된 이름)
+     * - 탭 중간에 행이 추가/삭제되어 행 번호가 밀려도 같은 스위치로 매칭
+     */
+    public String sheetKey() {
+        String normalizedName = name == null ? "" : name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return category + "|" + normalizedName;
+    }
+
+    /**
+     * 행 내용 해시 (SHA-256, 행 번호 제외)
+     * - 저장된 해시와 같으면 내용이 바뀌지 않은 행으로 보고 DB/ES 쓰기를 건너뜀
+     */
+    public String contentHash() {
+        StringBuilder content = new StringBuilder();
+        for (String value : new String[]{name, type, category, weight, manufacturer, price, actuationForce,
+                bottomOutForce, travelDistance, preTravel, springType, stemMaterial, housingMaterial,
+                soundProfile, isLubed, description}) {
+            content.append(value == null ? "\u0000" : value).append('\u001f');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원", e);
+        }
+    }
+
     /**
      * 공통 문자열 정제 메서드 (물음표 제거 등)
      */
@@ -198,6 +237,8 @@ public class SwitchSheetRow {
                 .isLubed(parseBoolean(this.isLubed))
                 .description(this.description)
                 .googleSheetsRow(this.rowNumber)
+                .sheetKey(sheetKey())
+                .contentHash(contentHash())
                 .build();
     }
 
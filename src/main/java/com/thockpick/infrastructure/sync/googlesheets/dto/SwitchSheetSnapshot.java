@@ -0,0 +1,19 @@
+package com.thockpick.infrastructure.sync.googlesheets.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 스프레드시트 전체 읽기 결과
+ * - completeCategories: 해당 카테고리의 모든 탭을 오류 없이 읽은 카테고리
+ *   (여기에 없는 카테고리는 일부 탭을 못 읽었으므로 "시트에서 사라진 행" 판단에서 제외)
+ */
+@Getter
+@RequiredArgsConstructor
+public class SwitchSheetSnapshot {
+    private final List<SwitchSheetRow> rows;
+    private final Set<String> completeCategories;
+}
@@ -0,0 +1,59 @@
+package com.thockpick.infrastructure.sync.googlesheets.dto;
+
+import com.thockpick.infrastructure.search.service.SwitchReindexResult;
+import com.thockpick.infrastructure.sync.googlesheets.service.SwitchSyncJob;
+import com.thockpick.infrastructure.sync.googlesheets.service.SwitchSyncProgress;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 동기화 작업 상태 응답
+ */
+@Getter
+@Builder
+public class SwitchSyncJobResponse {
+    private String jobId;
+    private SwitchSyncJob.Type type;
+    private SwitchSyncJob.Status status;
+    private Instant startedAt;
+    private Instant finishedAt;                  // 진행 중이면 null
+    private String currentPhase;                 // 동기화: fetch / plan / move / write / delete / index, 재색인: reindex (완료 후 null)
+    private int tabCount;                        // 전체 탭 수
+    private int tabsFetched;                     // 읽은 탭 수
+    private int rowCount;                        // 시트에서 읽은 행 수
+    private int rowsProcessed;                   // 분류/저장까지 끝난 행 수 (재색인은 적재한 문서 수)
+    private int dbWriteCount;                    // DB 저장/삭제 수
+    private int esWriteCount;                    // ES 색인/삭제 성공 수
+    private int errorCount;
+    private List<String> errors;                 // 최대 100개
+    private Map<String, Long> phaseDurationsMillis;
+    private SwitchSyncResult result;             // 동기화 완료 후에만 존재
+    private SwitchReindexResult reindexResult;   // 재색인 완료 후에만 존재
+
+    public static SwitchSyncJobResponse from(SwitchSyncJob job) {
+        SwitchSyncProgress progress = job.getProgress();
+        return SwitchSyncJobResponse.builder()
+                .jobId(job.getId())
+                .type(job.getType())
+                .status(job.getStatus())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .currentPhase(progress.getCurrentPhase())
+                .tabCount(progress.getTabCount())
+                .tabsFetched(progress.getTabsFetched())
+                .rowCount(progress.getRowCount())
+                .rowsProcessed(progress.getRowsProcessed())
+                .dbWriteCount(progress.getDbWriteCount())
+                .esWriteCount(progress.getEsWriteCount())
+                .errorCount(progress.getErrorCount())
+                .errors(progress.getErrors())
+                .phaseDurationsMillis(progress.getPhaseDurationsMillis())
+                .result(job.getResult())
+                .reindexResult(job.getReindexResult())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.thockpick.infrastructure.sync.googlesheets.dto;
+
+import com.thockpick.infrastructure.search.service.SwitchIndexFailure;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 전체 동기화 결과
+ */
+@Getter
+@Builder
+public class SwitchSyncResult {
+    private int syncedCount;                         // DB 반영 스위치 수 (신규 + 변경 + 위치 이동)
+    private int insertedCount;                       // 새로 추가된 스위치 수
+    private int updatedCount;                        // 내용이 바뀐 스위치 수
+    private int movedCount;                          // 내용은 같고 행 위치만 바뀐 스위치 수 (ES 색인 안 함)
+    private int deletedCount;                        // 시트에서 사라져 삭제된 스위치 수
+    private int unchangedCount;                      // 변경 없어 건너뛴 스위치 수
+    private int skippedRowCount;                     // 필수값 누락으로 건너뛴 행 수
+    private int failedRowCount;                      // DB 저장에 실패한 행 수
+    private int indexedCount;                        // ES 색인 성공 문서 수
+    private List<SwitchIndexFailure> indexFailures;  // ES 색인 실패 문서 (ID + 사유)
+}
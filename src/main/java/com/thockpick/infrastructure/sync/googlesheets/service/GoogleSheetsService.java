@@ -1,22 +1,28 @@
 package com.thockpick.infrastructure.sync.googlesheets.service;
 
-import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
-import com.google.api.client.googleapis.services.CommonGoogleClientRequestInitializer;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.JsonFactory;
-import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
 import com.google.api.services.sheets.v4.Sheets;
-import com.google.api.services.sheets.v4.model.Sheet;
+import com.google.api.services.sheets.v4.model.BatchGetValuesResponse;
 import com.google.api.services.sheets.v4.model.Spreadsheet;
 import com.google.api.services.sheets.v4.model.ValueRange;
+import com.thockpick.global.exception.BusinessException;
+import com.thockpick.global.exception.ErrorCode;
 import com.thockpick.infrastructure.sync.googlesheets.dto.SwitchSheetRow;
+import com.thockpick.infrastructure.sync.googlesheets.dto.SwitchSheetSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.security.GeneralSecurityException;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -25,10 +31,12 @@ import java.util.stream.IntStream;
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class GoogleSheetsService {
 
-    private static final String APPLICATION_NAME = "Thock Pick";
-    private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
+    private static final int BATCH_SIZE = 40;          // batchGet 한 번에 묶을 탭 수 (URL 길이 제한 고려)
+    private static final int FETCH_CONCURRENCY = 4;    // 개별 조회/파싱 동시 실행 수
+    private static final int HEADER_SCAN_ROWS = 30;    // 행 범위 조회 시 헤더를 찾을 앞쪽 행 수
 
     @Value("${google.sheets.spreadsheet-id}")
     private String spreadsheetId;
@@ -36,8 +44,9 @@ public class GoogleSheetsService {
     @Value("${google.sheets.range}")
     private String range;
 
-    @Value("${google.sheets.api-key}")
-    private String apiKey;
+    // 재사용되는 Sheets 클라이언트 (커넥션 풀 + keep-alive, GoogleSheetsConfig)
+    private final Sheets sheets;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Google Sheets에서 스위치 데이터 읽어오기
@@ -45,57 +54,237 @@ public class GoogleSheetsService {
      * @return 스위치 데이터 리스트
      */
     public List<SwitchSheetRow> readSwitchData() {
-        try {
-            final NetHttpTransport HTTP_TRANSPORT = GoogleNetHttpTransport.newTrustedTransport();
-
-            Sheets service = new Sheets.Builder(HTTP_TRANSPORT, JSON_FACTORY, null)
-                    .setApplicationName(APPLICATION_NAME)
-                    .setGoogleClientRequestInitializer(new CommonGoogleClientRequestInitializer(apiKey))
-                    .build();
+        return readSwitchSnapshot().getRows();
+    }
 
-            // 1. 전체 시트(탭) 목록 가져오기
-            Spreadsheet spreadsheet = service.spreadsheets().get(spreadsheetId).execute();
-            List<Sheet> sheets = spreadsheet.getSheets();
+    /**
+     * Google Sheets에서 스위치 데이터와 탭 읽기 성공 여부를 함께 읽어오기
+     *
+     * @return 스위치 데이터 + 모든 탭을 읽은 카테고리
+     */
+    public SwitchSheetSnapshot readSwitchSnapshot() {
+        return readSwitchSnapshot(new SwitchSyncProgress());
+    }
 
-            List<SwitchSheetRow> allRows = new ArrayList<>();
+    /**
+     * Google Sheets에서 스위치 데이터 읽어오기 (탭 수/읽은 탭 수를 progress 에 기록)
+     */
+    public SwitchSheetSnapshot readSwitchSnapshot(SwitchSyncProgress progress) {
+        try {
+            return readAllTabs(progress);
+        } catch (IOException e) {
+            log.error("Google Sheets 데이터 읽기 실패", e);
+            throw new RuntimeException("Google Sheets 데이터 읽기 실패", e);
+        }
+    }
 
-            log.info("총 {}개의 탭을 발견했습니다. 데이터 수집을 시작합니다.", sheets.size());
+    /**
+     * 특정 탭의 일부 행만 읽기 (헤더 탐색 범위 + 대상 행 범위를 batchGet 한 번으로 조회)
+     *
+     * @param sheetTitle 탭 이름 (예: "체리(2)")
+     * @param fromRow    시작 행 번호 (1부터, 포함)
+     * @param toRow      끝 행 번호 (포함)
+     * @return 해당 범위의 스위치 데이터 (헤더 이전 행, 이름 없는 행 제외)
+     */
+    public List<SwitchSheetRow> readSwitchRows(String sheetTitle, int fromRow, int toRow) {
+        try {
+            BatchGetValuesResponse response = timed("values.batchGet", () -> sheets.spreadsheets().values()
+                    .batchGet(spreadsheetId)
+                    .setRanges(List.of(rowRange(sheetTitle, 1, HEADER_SCAN_ROWS), rowRange(sheetTitle, fromRow, toRow)))
+                    .execute());
+            List<ValueRange> valueRanges = response.getValueRanges();
+            if (valueRanges == null || valueRanges.size() < 2) {
+                return Collections.emptyList();
+            }
+            return parseRowValues(valueRanges.get(0).getValues(), valueRanges.get(1).getValues(), fromRow, sheetTitle);
+        } catch (GoogleJsonResponseException e) {
+            log.warn("Google Sheets 범위 읽기 실패 ('{}' {}~{}행): {}", sheetTitle, fromRow, toRow, e.getMessage());
+            if (e.getStatusCode() == 400) {
+                // 없는 탭 이름 등 범위를 해석할 수 없는 경우
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "읽을 수 없는 탭 또는 범위입니다: " + sheetTitle);
+            }
+            throw new BusinessException(ErrorCode.GOOGLE_SHEETS_API_ERROR);
+        } catch (IOException e) {
+            log.error("Google Sheets 범위 읽기 실패 ('{}' {}~{}행)", sheetTitle, fromRow, toRow, e);
+            throw new BusinessException(ErrorCode.GOOGLE_SHEETS_API_ERROR);
+        }
+    }
 
-            // 2. 각 탭을 순회하며 데이터 읽기
-            for (Sheet sheet : sheets) {
-                String sheetTitle = sheet.getProperties().getTitle();
+    /**
+     * 전체 탭 읽기
+     * - 탭 목록(제목만) 조회 1회 + values.batchGet 으로 BATCH_SIZE 개 탭씩 한 번에 조회
+     * - batchGet 이 실패한 묶음은 탭별 values.get 을 제한된 스레드 풀에서 동시에 조회
+     * - 탭별 파싱도 같은 스레드 풀에서 병렬 처리 (결과는 탭 순서 유지)
+     * - 읽기/파싱에 실패한 탭의 카테고리는 completeCategories 에서 제외
+     */
+    private SwitchSheetSnapshot readAllTabs(SwitchSyncProgress progress) throws IOException {
+        // 1. 전체 시트(탭) 목록 가져오기 (제목만)
+        Spreadsheet spreadsheet = timed("spreadsheets.get", () -> sheets.spreadsheets().get(spreadsheetId)
+                .setFields("sheets.properties.title")
+                .execute());
+        List<String> sheetTitles = spreadsheet.getSheets().stream()
+                .map(sheet -> sheet.getProperties().getTitle())
+                .toList();
 
-                // 탭 이름으로 범위를 만듭니다 (예: 'Leobog(7)'!A:Z)
-                // 탭 이름에 공백이나 특수문자가 있을 수 있어 작은따옴표('')로 감쌉니다.
-                String fullRange = String.format("'%s'!%s", sheetTitle, range);
+        log.info("총 {}개의 탭을 발견했습니다. 데이터 수집을 시작합니다.", sheetTitles.size());
+        progress.setTabCount(sheetTitles.size());
 
-                try {
-                    ValueRange response = service.spreadsheets().values()
-                            .get(spreadsheetId, fullRange)
-                            .execute();
+        ExecutorService executor = Executors.newFixedThreadPool(FETCH_CONCURRENCY);
+        try {
+            // 2. 탭 데이터 조회 (batchGet 묶음 단위)
+            Map<String, List<List<Object>>> valuesByTitle = new HashMap<>();
+            for (int from = 0; from < sheetTitles.size(); from += BATCH_SIZE) {
+                List<String> batch = sheetTitles.subList(from, Math.min(from + BATCH_SIZE, sheetTitles.size()));
+                valuesByTitle.putAll(fetchBatch(batch, executor, progress));
+            }
 
-                    List<List<Object>> values = response.getValues();
+            // 3. 탭별 파싱 (병렬)
+            List<Future<List<SwitchSheetRow>>> parsed = new ArrayList<>();
+            for (String sheetTitle : sheetTitles) {
+                List<List<Object>> values = valuesByTitle.get(sheetTitle);
+                parsed.add(executor.submit(() -> parseSheetValues(values, sheetTitle)));
+            }
 
-                    // 해당 탭의 데이터를 파싱해서 결과 리스트에 추가
-                    List<SwitchSheetRow> parsedRows = parseSheetValues(values, sheetTitle);
+            List<SwitchSheetRow> allRows = new ArrayList<>();
+            Set<String> readCategories = new HashSet<>();
+            Set<String> failedCategories = new HashSet<>();
+            for (int i = 0; i < sheetTitles.size(); i++) {
+                String sheetTitle = sheetTitles.get(i);
+                if (!valuesByTitle.containsKey(sheetTitle)) {
+                    progress.recordError("탭 '" + sheetTitle + "' 읽기 실패");
+                    failedCategories.add(SwitchSheetRow.categoryOf(sheetTitle));
+                    continue;
+                }
+                try {
+                    List<SwitchSheetRow> parsedRows = parsed.get(i).get();
                     if (!parsedRows.isEmpty()) {
                         log.info("탭 '{}' 에서 {}개의 스위치 데이터를 읽었습니다.", sheetTitle, parsedRows.size());
                         allRows.addAll(parsedRows);
                     } else {
                         log.debug("탭 '{}' 에는 유효한 스위치 데이터가 없습니다.", sheetTitle);
                     }
-
-                } catch (Exception e) {
-                    log.warn("탭 '{}' 읽기 실패 (무시하고 계속 진행): {}", sheetTitle, e.getMessage());
+                    readCategories.add(SwitchSheetRow.categoryOf(sheetTitle));
+                } catch (ExecutionException e) {
+                    log.warn("탭 '{}' 파싱 실패 (무시하고 계속 진행): {}", sheetTitle, e.getCause().getMessage());
+                    progress.recordError("탭 '" + sheetTitle + "' 파싱 실패: " + e.getCause().getMessage());
+                    failedCategories.add(SwitchSheetRow.categoryOf(sheetTitle));
                 }
             }
+            readCategories.removeAll(failedCategories);
+            return new SwitchSheetSnapshot(allRows, Set.copyOf(readCategories));
 
-            return allRows;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Google Sheets 데이터 읽기 중단", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
-        } catch (GeneralSecurityException | IOException e) {
-            log.error("Google Sheets 데이터 읽기 실패", e);
-            throw new RuntimeException("Google Sheets 데이터 읽기 실패", e);
+    /**
+     * 탭 묶음을 batchGet 한 번으로 조회 (실패 시 탭별 개별 조회로 대체)
+     */
+    private Map<String, List<List<Object>>> fetchBatch(List<String> sheetTitles, ExecutorService executor,
+                                                       SwitchSyncProgress progress) throws InterruptedException {
+        Map<String, List<List<Object>>> valuesByTitle = new HashMap<>();
+        try {
+            BatchGetValuesResponse response = timed("values.batchGet", () -> sheets.spreadsheets().values()
+                    .batchGet(spreadsheetId)
+                    .setRanges(sheetTitles.stream().map(this::fullRange).toList())
+                    .execute());
+
+            // 응답의 valueRanges 는 요청한 ranges 순서와 같음
+            List<ValueRange> valueRanges = response.getValueRanges();
+            for (int i = 0; i < sheetTitles.size() && valueRanges != null && i < valueRanges.size(); i++) {
+                valuesByTitle.put(sheetTitles.get(i), valueRanges.get(i).getValues());
+            }
+            progress.addTabsFetched(valuesByTitle.size());
+            return valuesByTitle;
+        } catch (IOException e) {
+            log.warn("batchGet 실패, 탭별 조회로 대체 ({}개 탭): {}", sheetTitles.size(), e.getMessage());
+        }
+
+        List<Future<List<List<Object>>>> futures = new ArrayList<>();
+        for (String sheetTitle : sheetTitles) {
+            futures.add(executor.submit(() -> timed("values.get", () -> sheets.spreadsheets().values()
+                    .get(spreadsheetId, fullRange(sheetTitle))
+                    .execute())
+                    .getValues()));
+        }
+        for (int i = 0; i < sheetTitles.size(); i++) {
+            try {
+                valuesByTitle.put(sheetTitles.get(i), futures.get(i).get());
+                progress.addTabsFetched(1);
+            } catch (ExecutionException e) {
+                log.warn("탭 '{}' 읽기 실패 (무시하고 계속 진행): {}", sheetTitles.get(i), e.getCause().getMessage());
+            }
         }
+        return valuesByTitle;
+    }
+
+    /**
+     * Sheets API 호출 시간 기록 (google.sheets.requests{operation, outcome})
+     */
+    private <T> T timed(String operation, SheetsCall<T> call) throws IOException {
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            return call.execute();
+        } catch (IOException | RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            Timer.builder("google.sheets.requests")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SheetsCall<T> {
+        T execute() throws IOException;
+    }
+
+    /**
+     * 탭 이름으로 범위를 만듭니다 (예: 'Leobog(7)'!A:Z)
+     * 탭 이름에 공백이나 특수문자가 있을 수 있어 작은따옴표('')로 감쌉니다.
+     */
+    private String fullRange(String sheetTitle) {
+        return String.format("'%s'!%s", sheetTitle, range);
+    }
+
+    /**
+     * 탭의 행 범위 (설정된 range 의 컬럼 범위 사용, 예: 'Leobog(7)'!A15:Z20)
+     */
+    private String rowRange(String sheetTitle, int fromRow, int toRow) {
+        String[] columns = range.replaceAll("[0-9]", "").split(":");
+        String firstColumn = columns[0].isEmpty() ? "A" : columns[0];
+        String lastColumn = columns.length > 1 && !columns[1].isEmpty() ? columns[1] : "ZZ";
+        return String.format("'%s'!%s%d:%s%d", sheetTitle, firstColumn, fromRow, lastColumn, toRow);
+    }
+
+    /**
+     * 행 범위 데이터를 헤더 탐색 범위의 헤더로 파싱 (헤더 행 이후 행만)
+     */
+    private List<SwitchSheetRow> parseRowValues(List<List<Object>> headerValues, List<List<Object>> rowValues,
+                                                int fromRow, String sheetTitle) {
+        if (headerValues == null || rowValues == null) {
+            return Collections.emptyList();
+        }
+        int headerRowIndex = findHeaderRowIndex(headerValues);
+        if (headerRowIndex == -1) {
+            log.warn("탭 '{}' 의 처음 {}행에서 헤더를 찾지 못했습니다.", sheetTitle, HEADER_SCAN_ROWS);
+            return Collections.emptyList();
+        }
+        Map<String, Integer> headerMap = headerMap(headerValues.get(headerRowIndex));
+
+        return IntStream.range(0, rowValues.size())
+                .filter(i -> fromRow + i > headerRowIndex + 1)
+                .mapToObj(i -> SwitchSheetRow.from(fromRow + i, rowValues.get(i), headerMap, sheetTitle))
+                .filter(row -> row.getName() != null && !row.getName().isEmpty())
+                .collect(Collectors.toList());
     }
 
     /**
@@ -107,29 +296,13 @@ public class GoogleSheetsService {
         }
 
         // 1. 헤더 행 찾기
-        int headerRowIndex = -1;
-        Map<String, Integer> headerMap = new HashMap<>();
-
-        for (int i = 0; i < values.size(); i++) {
-            List<Object> row = values.get(i);
-            boolean isHeader = row.stream()
-                    .map(Object::toString)
-                    .anyMatch(cell -> cell.replaceAll("\\s+", "").contains("스위치이름"));
-
-            if (isHeader) {
-                headerRowIndex = i;
-                for (int j = 0; j < row.size(); j++) {
-                    String headerName = row.get(j).toString().replaceAll("\\s+", "");
-                    headerMap.put(headerName, j);
-                }
-                break;
-            }
-        }
+        int headerRowIndex = findHeaderRowIndex(values);
 
         // 헤더("스위치이름")가 없는 탭(예: "시트 읽는 법")은 조용히 빈 리스트 반환
         if (headerRowIndex == -1) {
             return Collections.emptyList();
         }
+        Map<String, Integer> headerMap = headerMap(values.get(headerRowIndex));
 
         // 2. 데이터 파싱
         return IntStream.range(headerRowIndex + 1, values.size())
@@ -139,6 +312,29 @@ public class GoogleSheetsService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * "스위치이름" 셀이 있는 첫 행 (없으면 -1)
+     */
+    private int findHeaderRowIndex(List<List<Object>> values) {
+        for (int i = 0; i < values.size(); i++) {
+            boolean isHeader = values.get(i).stream()
+                    .map(Object::toString)
+                    .anyMatch(cell -> cell.replaceAll("\\s+", "").contains("스위치이름"));
+            if (isHeader) {
+                return i;
+            }
+        }
+        return -1;
+    }
 
-
+    /**
+     * 헤더 행의 컬럼명(공백 제거) -> 인덱스
+     */
+    private Map<String, Integer> headerMap(List<Object> headerRow) {
+        Map<String, Integer> headerMap = new HashMap<>();
+        for (int j = 0; j < headerRow.size(); j++) {
+            headerMap.put(headerRow.get(j).toString().replaceAll("\\s+", ""), j);
+        }
+        return headerMap;
+    }
 }
@@ -0,0 +1,61 @@
+package com.thockpick.infrastructure.sync.googlesheets.service;
+
+import com.thockpick.infrastructure.search.service.SwitchReindexResult;
+import com.thockpick.infrastructure.sync.googlesheets.dto.SwitchSyncResult;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 백그라운드 스위치 작업 (시트 동기화 또는 ES 전체 재색인, 상태 + 진행 상황 + 최종 결과)
+ */
+@Getter
+public class SwitchSyncJob {
+
+    public enum Type {
+        SYNC, REINDEX
+    }
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    private final String id;
+    private final Type type;
+    private final Instant startedAt = Instant.now();
+    private final SwitchSyncProgress progress = new SwitchSyncProgress();
+
+    private volatile Status status = Status.RUNNING;
+    private volatile Instant finishedAt;
+    private volatile SwitchSyncResult result;
+    private volatile SwitchReindexResult reindexResult;
+    private volatile String failureMessage;
+
+    SwitchSyncJob(String id, Type type) {
+        this.id = id;
+        this.type = type;
+    }
+
+    public boolean isRunning() {
+        return status == Status.RUNNING;
+    }
+
+    void complete(SwitchSyncResult result) {
+        this.result = result;
+        this.finishedAt = Instant.now();
+        this.status = Status.COMPLETED;
+    }
+
+    void complete(SwitchReindexResult reindexResult) {
+        this.reindexResult = reindexResult;
+        this.finishedAt = Instant.now();
+        this.status = Status.COMPLETED;
+    }
+
+    void fail(Throwable e) {
+        progress.recordError(e.getMessage());
+        this.failureMessage = e.getMessage();
+        this.finishedAt = Instant.now();
+        this.status = Status.FAILED;
+    }
+}
@@ -0,0 +1,145 @@
+package com.thockpick.infrastructure.sync.googlesheets.service;
+
+import com.thockpick.global.exception.BusinessException;
+import com.thockpick.global.exception.ErrorCode;
+import com.thockpick.infrastructure.search.service.SwitchReindexService;
+import com.thockpick.infrastructure.sync.googlesheets.dto.SwitchSyncResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 스위치 전체 동기화 / ES 전체 재색인 작업 실행기
+ * - 요청 스레드 대신 전용 스레드 하나에서 실행 (요청은 작업 ID 만 받고 바로 반환)
+ * - 동시에 하나만 실행하며, 실행 중에 들어온 같은 종류의 요청은 진행 중인 작업에 합류 (같은 작업 반환)
+ *   다른 종류의 요청(동기화 중 재색인 등)은 SYNC_JOB_ALREADY_RUNNING(409) 으로 거절
+ * - 행 범위 동기화도 같은 잠금을 사용 (요청 스레드에서 바로 실행하되 다른 작업과 겹치면 409)
+ *   sheetKey 에 유니크 제약이 없으므로 겹쳐 실행되면 같은 스위치가 두 번 INSERT 될 수 있음
+ * - 최근 작업 MAX_RECENT_JOBS 개는 완료 후에도 조회 가능
+ */
+@Slf4j
+@Service
+public class SwitchSyncJobManager {
+
+    private static final int MAX_RECENT_JOBS = 20;
+
+    private final SwitchSyncService switchSyncService;
+    private final SwitchReindexService switchReindexService;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "switch-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, SwitchSyncJob> recentJobs = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SwitchSyncJob> eldest) {
+            return size() > MAX_RECENT_JOBS;
+        }
+    };
+    private SwitchSyncJob runningJob;
+    private boolean rowSyncRunning;
+
+    public SwitchSyncJobManager(SwitchSyncService switchSyncService, SwitchReindexService switchReindexService) {
+        this.switchSyncService = switchSyncService;
+        this.switchReindexService = switchReindexService;
+    }
+
+    /**
+     * 동기화 시작 (이미 동기화가 실행 중이면 그 작업 반환)
+     */
+    public SwitchSyncJob start() {
+        return start(SwitchSyncJob.Type.SYNC);
+    }
+
+    /**
+     * 전체 재색인 시작 (이미 재색인이 실행 중이면 그 작업 반환)
+     */
+    public SwitchSyncJob startReindex() {
+        return start(SwitchSyncJob.Type.REINDEX);
+    }
+
+    /**
+     * 한 탭의 행 범위 동기화 (호출 스레드에서 실행, 다른 작업이 진행 중이면 409)
+     */
+    public SwitchSyncResult syncRows(String sheetTitle, int fromRow, int toRow) {
+        synchronized (this) {
+            ensureIdle();
+            rowSyncRunning = true;
+        }
+        try {
+            return switchSyncService.syncSwitchRows(sheetTitle, fromRow, toRow);
+        } finally {
+            synchronized (this) {
+                rowSyncRunning = false;
+            }
+        }
+    }
+
+    private void ensureIdle() {
+        if (rowSyncRunning) {
+            throw new BusinessException(ErrorCode.SYNC_JOB_ALREADY_RUNNING, "행 범위 동기화가 진행 중입니다.");
+        }
+        if (runningJob != null && runningJob.isRunning()) {
+            throw new BusinessException(ErrorCode.SYNC_JOB_ALREADY_RUNNING,
+                    "스위치 작업(" + runningJob.getType() + ") 진행 중입니다: " + runningJob.getId());
+        }
+    }
+
+    private synchronized SwitchSyncJob start(SwitchSyncJob.Type type) {
+        if (runningJob != null && runningJob.isRunning() && runningJob.getType() == type) {
+            log.info("스위치 작업({}) 진행 중, 기존 작업에 합류: {}", runningJob.getType(), runningJob.getId());
+            return runningJob;
+        }
+        ensureIdle();
+
+        SwitchSyncJob job = new SwitchSyncJob(UUID.randomUUID().toString(), type);
+        runningJob = job;
+        recentJobs.put(job.getId(), job);
+        executor.execute(() -> run(job));
+        return job;
+    }
+
+    public synchronized Optional<SwitchSyncJob> find(String jobId) {
+        return Optional.ofNullable(recentJobs.get(jobId));
+    }
+
+    private void run(SwitchSyncJob job) {
+        log.info("스위치 작업({}) 시작: {}", job.getType(), job.getId());
+        SwitchSyncProgress progress = job.getProgress();
+        try {
+            if (job.getType() == SwitchSyncJob.Type.REINDEX) {
+                progress.startPhase("reindex");
+                job.complete(switchReindexService.reindex(indexed -> {
+                    progress.addRowsProcessed(indexed);
+                    progress.addEsWrites(indexed);
+                }));
+            } else {
+                job.complete(switchSyncService.syncAllSwitches(progress));
+            }
+            log.info("스위치 작업({}) 완료: {}", job.getType(), job.getId());
+        } catch (Exception e) {
+            log.error("스위치 작업({}) 실패: {}", job.getType(), job.getId(), e);
+            job.fail(e);
+        } catch (Error e) {
+            // RUNNING 으로 남으면 이후 요청이 모두 죽은 작업에 합류하므로 실패로 기록한 뒤 전파
+            log.error("스위치 작업({}) 비정상 종료: {}", job.getType(), job.getId(), e);
+            job.fail(e);
+            throw e;
+        } finally {
+            job.getProgress().endPhase();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,132 @@
+package com.thockpick.infrastructure.sync.googlesheets.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 스위치 동기화 진행 상황
+ * - 동기화 스레드(탭 조회 스레드 포함)가 갱신하고, 조회 API 가 동시에 읽음
+ * - 단계(phase)는 순서대로 진행되며 단계별 소요 시간(ms)을 기록
+ */
+public class SwitchSyncProgress {
+
+    private static final int MAX_ERRORS = 100; // 응답 크기 제한 (전체 개수는 errorCount)
+
+    private final AtomicInteger tabCount = new AtomicInteger();
+    private final AtomicInteger tabsFetched = new AtomicInteger();
+    private final AtomicInteger rowCount = new AtomicInteger();
+    private final AtomicInteger rowsProcessed = new AtomicInteger();
+    private final AtomicInteger dbWriteCount = new AtomicInteger();
+    private final AtomicInteger esWriteCount = new AtomicInteger();
+    private final AtomicInteger errorCount = new AtomicInteger();
+    private final List<String> errors = new CopyOnWriteArrayList<>();
+
+    private final Map<String, Long> phaseDurations = new LinkedHashMap<>();
+    private String currentPhase;
+    private long phaseStartedAt;
+
+    /**
+     * 이전 단계를 끝내고 새 단계 시작
+     */
+    public synchronized void startPhase(String phase) {
+        endPhase();
+        currentPhase = phase;
+        phaseStartedAt = System.nanoTime();
+    }
+
+    /**
+     * 진행 중인 단계 종료
+     */
+    public synchronized void endPhase() {
+        if (currentPhase != null) {
+            phaseDurations.merge(currentPhase, elapsedMillis(), Long::sum);
+            currentPhase = null;
+        }
+    }
+
+    public synchronized String getCurrentPhase() {
+        return currentPhase;
+    }
+
+    /**
+     * 단계별 소요 시간 (진행 중인 단계는 현재까지 경과 시간)
+     */
+    public synchronized Map<String, Long> getPhaseDurationsMillis() {
+        Map<String, Long> durations = new LinkedHashMap<>(phaseDurations);
+        if (currentPhase != null) {
+            durations.merge(currentPhase, elapsedMillis(), Long::sum);
+        }
+        return durations;
+    }
+
+    public void setTabCount(int count) {
+        tabCount.set(count);
+    }
+
+    public void addTabsFetched(int count) {
+        tabsFetched.addAndGet(count);
+    }
+
+    public void setRowCount(int count) {
+        rowCount.set(count);
+    }
+
+    public void addRowsProcessed(int count) {
+        rowsProcessed.addAndGet(count);
+    }
+
+    public void addDbWrites(int count) {
+        dbWriteCount.addAndGet(count);
+    }
+
+    public void addEsWrites(int count) {
+        esWriteCount.addAndGet(count);
+    }
+
+    public void recordError(String message) {
+        if (errorCount.incrementAndGet() <= MAX_ERRORS) {
+            errors.add(message);
+        }
+    }
+
+    public int getTabCount() {
+        return tabCount.get();
+    }
+
+    public int getTabsFetched() {
+        return tabsFetched.get();
+    }
+
+    public int getRowCount() {
+        return rowCount.get();
+    }
+
+    public int getRowsProcessed() {
+        return rowsProcessed.get();
+    }
+
+    public int getDbWriteCount() {
+        return dbWriteCount.get();
+    }
+
+    public int getEsWriteCount() {
+        return esWriteCount.get();
+    }
+
+    public int getErrorCount() {
+        return errorCount.get();
+    }
+
+    public List<String> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    private long elapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - phaseStartedAt);
+    }
+}
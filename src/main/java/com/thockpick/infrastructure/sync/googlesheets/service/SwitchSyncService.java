@@ -1,19 +1,30 @@
 package com.thockpick.infrastructure.sync.googlesheets.service;
 
-import com.thockpick.application.switches.SwitchNicknameService;
 import com.thockpick.domain.switches.Switch;
+import com.thockpick.domain.switches.SwitchCatalogChangedEvent;
+import com.thockpick.domain.switches.SwitchIndexOutbox;
+import com.thockpick.domain.switches.SwitchIndexOutboxRepository;
 import com.thockpick.domain.switches.SwitchRepository;
+import com.thockpick.domain.switches.SwitchSyncKey;
+import com.thockpick.global.exception.BusinessException;
+import com.thockpick.global.exception.ErrorCode;
+import com.thockpick.global.util.EditDistance;
+import com.thockpick.global.util.HangulUtils;
 import com.thockpick.infrastructure.search.document.SwitchDocument;
-import com.thockpick.infrastructure.search.repository.SwitchSearchRepository;
+import com.thockpick.infrastructure.search.service.SwitchBulkIndexer;
+import com.thockpick.infrastructure.search.service.SwitchIndexFailure;
+import com.thockpick.infrastructure.search.service.SwitchIndexOutboxRelay;
 import com.thockpick.infrastructure.sync.googlesheets.dto.SwitchSheetRow;
+import com.thockpick.infrastructure.sync.googlesheets.dto.SwitchSheetSnapshot;
+import com.thockpick.infrastructure.sync.googlesheets.dto.SwitchSyncResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 /**
  * Google Sheets 데이터를 Switch 엔티티와 동기화하는 서비스
@@ -23,220 +34,508 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class SwitchSyncService {
 
+    private static final int CHUNK_SIZE = 500;
+
     private final GoogleSheetsService googleSheetsService;
     private final SwitchRepository switchRepository;
 
-    // ES 저장소 & 별명 서비스 주입
-    private final SwitchSearchRepository switchSearchRepository;
-    private final SwitchNicknameService switchNicknameService;
+    // ES 반영: 색인 요청은 outbox 에 기록하고 릴레이가 bulk 반영 (대량 적재 동안 refresh 는 bulk 색인기로 제어)
+    private final SwitchIndexOutboxRepository outboxRepository;
+    private final SwitchIndexOutboxRelay switchIndexOutboxRelay;
+    private final SwitchBulkIndexer switchBulkIndexer;
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    // 동기화 완료 이벤트 (메모리 인덱스 재구성 등)
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 청크 단위 트랜잭션
+    private final TransactionTemplate transactionTemplate;
 
     /**
-     * Google Sheets의 모든 스위치 데이터를 DB와 동기화
-     * 
-     * @return 동기화된 스위치 개수 (신규 생성 + 업데이트)
+     * Google Sheets의 모든 스위치 데이터를 DB와 동기화 (변경분만 반영)
+     * - 기존 스위치 키(시트 키, 내용 해시)를 한 번에 읽어 행마다 신규/변경/위치 이동/변경 없음으로 분류
+     * - 시트 키(탭 카테고리 + 정규화된 이름)로 매칭하므로 행이 끼어들어 행 번호가 밀려도 같은 스위치로 인식
+     *   (시트 키가 없는 기존 데이터는 행 번호 + 카테고리, 이름 순으로 매칭 후 키를 채움)
+     * - 시트 키로 못 찾은 행은 같은 카테고리 + 같은 행 번호의 남은 스위치와 짝지어 그대로 갱신
+     *   (이름 오타 수정이 삭제 + 신규로 처리되면 ID 가 바뀌고 연결된 영상 매핑이 cascade 로 사라지므로)
+     * - 신규/변경 행만 CHUNK_SIZE 단위 트랜잭션으로 저장, 위치 이동은 행 번호만 갱신
+     * - 색인 요청은 같은 트랜잭션에서 outbox 에 기록하고, 저장이 끝나면 릴레이로 한꺼번에 ES 에 반영
+     *   (반영 실패 항목은 outbox 에 남아 릴레이가 재시도)
+     * - 시트에서 사라진 스위치는 모든 탭을 읽은 카테고리 안에서만 삭제 (읽기 실패한 탭의 스위치는 유지)
+     * - 단계(fetch/plan/move/write/delete)와 처리 건수를 progress 에 기록 (작업 상태 조회용)
+     *
+     * @param progress 진행 상황 기록 대상
+     * @return 동기화 결과 (신규/변경/이동/삭제/변경 없음 수, 실패 행 수, ES 색인 실패 항목)
      */
-    public int syncAllSwitches() {
+    public SwitchSyncResult syncAllSwitches(SwitchSyncProgress progress) {
         log.info("Google Sheets 스위치 데이터 동기화 시작");
 
-        List<SwitchSheetRow> sheetRows = googleSheetsService.readSwitchData();
+        progress.startPhase("fetch");
+        SwitchSheetSnapshot snapshot = googleSheetsService.readSwitchSnapshot(progress);
+        List<SwitchSheetRow> sheetRows = snapshot.getRows();
+        progress.setRowCount(sheetRows.size());
         
         if (sheetRows.isEmpty()) {
             log.warn("동기화할 데이터가 없습니다.");
-            return 0;
+            progress.endPhase();
+            return SwitchSyncResult.builder().indexFailures(List.of()).build();
         }
 
-        int createdCount = 0;
+        // 신규 필드(type, price 등)가 기존 인덱스 매핑에 반영되도록 갱신
+        updateSearchMapping();
+
+        // 1. 기존 스위치 키와 비교해 변경분 분류
+        progress.startPhase("plan");
+        SyncPlan plan = SyncPlan.of(sheetRows, SyncKeyIndex.of(switchRepository.findAllSyncKeys()),
+                deletableCategories(snapshot));
+        log.info("동기화 대상: 신규 {}건, 변경 {}건, 이동 {}건, 삭제 {}건, 변경 없음 {}건 (스킵 {}행)",
+                plan.inserts.size(), plan.updates.size(), plan.moves.size(), plan.deleteIds.size(),
+                plan.unchangedCount, plan.skippedCount);
+        progress.addRowsProcessed(plan.unchangedCount + plan.skippedCount);
+
+        // 2. 위치만 바뀐 행은 행 번호만 갱신 (검색 문서 내용은 같으므로 색인하지 않음)
+        progress.startPhase("move");
+        List<SwitchSheetRow> failedRows = new ArrayList<>();
+        int movedCount = 0;
+        for (int from = 0; from < plan.moves.size(); from += CHUNK_SIZE) {
+            movedCount += saveChunk(plan.moves.subList(from, Math.min(from + CHUNK_SIZE, plan.moves.size())),
+                    failedRows, progress, false).size();
+        }
+
+        // 3. 신규/변경 행 저장, 사라진 스위치 삭제 (outbox 기록) 후 ES 반영
+        int insertedCount = 0;
         int updatedCount = 0;
+        int indexedCount = 0;
+        int deletedCount = 0;
+        List<SwitchIndexFailure> indexFailures = new ArrayList<>();
 
-        for (SwitchSheetRow row : sheetRows) {
+        if (!plan.inserts.isEmpty() || !plan.updates.isEmpty() || !plan.deleteIds.isEmpty()) {
+            switchBulkIndexer.beginBulkLoad();
             try {
-                // 1. 필수값 검증 로직 추가 (DB 에러 방지)
-                if (row.getName() == null || row.getType() == null) {
-                    log.warn("필수 데이터 누락으로 스킵 (행: {}): 이름 또는 타입 없음", row.getRowNumber());
-                    continue;
-                }
-
-                // 2. 개별 처리 (트랜잭션이 각각 동작함)
-                processSingleSwitch(row);
+                progress.startPhase("write");
+                insertedCount = saveRows(plan.inserts, failedRows, progress);
+                updatedCount = saveRows(plan.updates, failedRows, progress);
 
-                // 성공 시 카운트 (업데이트인지 생성인지는 processSingleSwitch 안에서 판단하거나 단순 합산)
-                createdCount++;
+                progress.startPhase("delete");
+                deletedCount = deleteSwitches(plan.deleteIds, progress).size();
 
-            } catch (Exception e) {
-                // 이제 여기서 에러가 나도 다음 행에는 영향 없음
-                log.error("스위치 동기화 실패 (행: {}): {}", row.getRowNumber(), e.getMessage());
+                progress.startPhase("index");
+                indexedCount = dispatchOutbox(indexFailures, progress);
+            } finally {
+                switchBulkIndexer.endBulkLoad();
             }
         }
+        progress.endPhase();
+
+        int changedCount = insertedCount + updatedCount + deletedCount;
+        log.info("동기화 완료: 신규 {}건, 변경 {}건, 이동 {}건, 삭제 {}건 (실패 {}행, 스킵 {}행), ES {}건 (실패 {}건)",
+                insertedCount, updatedCount, movedCount, deletedCount, failedRows.size(), plan.skippedCount,
+                indexedCount, indexFailures.size());
+        if (changedCount > 0) {
+            eventPublisher.publishEvent(new SwitchCatalogChangedEvent(changedCount));
+        }
 
-        return createdCount;
+        return SwitchSyncResult.builder()
+                .syncedCount(insertedCount + updatedCount + movedCount)
+                .insertedCount(insertedCount)
+                .updatedCount(updatedCount)
+                .movedCount(movedCount)
+                .deletedCount(deletedCount)
+                .unchangedCount(plan.unchangedCount)
+                .skippedRowCount(plan.skippedCount)
+                .failedRowCount(failedRows.size())
+                .indexedCount(indexedCount)
+                .indexFailures(indexFailures)
+                .build();
     }
 
     /**
-     * 개별 스위치 처리 로직 분리
-     * (private 메서드라 @Transactional이 안 먹히지만, repository.save()가 트랜잭션을 가짐)
+     * CHUNK_SIZE 행씩 저장 (색인 요청은 outbox 에 기록)
+     *
+     * @return DB 에 저장된 스위치 수
      */
-    private void processSingleSwitch(SwitchSheetRow row) {
-        Switch savedSwitch;     // 저장된 스위치를 담을 변수
+    private int saveRows(List<PlannedRow> rows, List<SwitchSheetRow> failedRows, SwitchSyncProgress progress) {
+        int savedCount = 0;
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            savedCount += saveChunk(rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size())), failedRows, progress, true).size();
+        }
+        return savedCount;
+    }
 
-        // 1. 행 번호 + 카테고리(탭 이름) 조합으로 정확한 데이터 찾기
-        Optional<Switch> existingSwitch = switchRepository.findByGoogleSheetsRowAndCategory(
-                row.getRowNumber(),
-                row.getCategory()
-        );
+    /**
+     * 쌓인 outbox 를 바로 ES 에 반영 (실패 항목은 outbox 에 남아 릴레이가 재시도)
+     *
+     * @return ES 반영에 성공한 스위치 수
+     */
+    private int dispatchOutbox(List<SwitchIndexFailure> indexFailures, SwitchSyncProgress progress) {
+        SwitchIndexOutboxRelay.DrainResult drained = switchIndexOutboxRelay.drainAll();
+        progress.addEsWrites(drained.getDispatchedCount());
+        drained.getFailures().forEach(failure ->
+                progress.recordError("ES 반영 실패, 재시도 예정 (ID: " + failure.getId() + "): " + failure.getReason()));
+        indexFailures.addAll(drained.getFailures());
+        return drained.getDispatchedCount();
+    }
 
-        // 2. 없으면 이름으로 백업 검색 (혹시 모를 중복 방지)
-        if (existingSwitch.isEmpty() && row.getName() != null) {
-            existingSwitch = switchRepository.findByName(row.getName());
-        }
-
-        if (existingSwitch.isPresent()) {
-            Switch switchEntity = existingSwitch.get();
-            switchEntity.updateFromGoogleSheets(
-                    row.toEntity().getName(),
-                    row.toEntity().getType(),
-                    row.toEntity().getCategory(),
-                    // ... 필드들 ...
-                    row.toEntity().getWeight(),
-                    row.toEntity().getManufacturer(),
-                    row.toEntity().getPrice(),
-                    row.toEntity().getActuationForce(),
-                    row.toEntity().getBottomOutForce(),
-                    row.toEntity().getTravelDistance(),
-                    row.toEntity().getPreTravel(),
-                    row.toEntity().getSpringType(),
-                    row.toEntity().getStemMaterial(),
-                    row.toEntity().getHousingMaterial(),
-                    row.toEntity().getSoundProfile(),
-                    row.toEntity().getIsLubed(),
-                    row.toEntity().getDescription()
-            );
-            savedSwitch = switchRepository.save(switchEntity);  // 업데이트된 엔티티 저장
-        } else {
-            Switch newSwitch = row.toEntity();
-            savedSwitch = switchRepository.save(newSwitch);     // 신규 엔티티 저장
-        }
-
-        // Elasticsearch 에도 저장 (동기화)
-        saveToElasticsearch(savedSwitch);
+    /**
+     * 삭제 판단이 가능한 카테고리 (모든 탭을 읽었고, 이번에 한 행 이상 읽힌 카테고리)
+     * - 탭 전체가 비어 보이면 헤더 변경 등 파싱 문제일 수 있으므로 삭제하지 않음
+     */
+    private Set<String> deletableCategories(SwitchSheetSnapshot snapshot) {
+        Set<String> categories = new HashSet<>();
+        for (SwitchSheetRow row : snapshot.getRows()) {
+            if (snapshot.getCompleteCategories().contains(row.getCategory())) {
+                categories.add(row.getCategory());
+            }
+        }
+        return categories;
     }
 
     /**
-     * ES 저장 로직 분리
-     * @param switchEntity
+     * 한 청크를 한 트랜잭션으로 저장 (실패 시 해당 청크만 행 단위로 다시 시도해 다른 행에는 영향 없음)
      */
-    private void saveToElasticsearch(Switch switchEntity) {
+    private List<Switch> saveChunk(List<PlannedRow> chunk, List<SwitchSheetRow> failedRows, SwitchSyncProgress progress,
+                                   boolean enqueueIndex) {
+        List<Switch> saved = null;
         try {
-            String originalName = switchEntity.getName();
+            saved = transactionTemplate.execute(status -> upsert(chunk, enqueueIndex));
+        } catch (Exception e) {
+            log.warn("청크 저장 실패, 행 단위로 재시도 ({}행): {}", chunk.size(), e.getMessage());
+        }
+
+        if (saved == null) {
+            saved = new ArrayList<>();
+            for (PlannedRow planned : chunk) {
+                try {
+                    saved.addAll(transactionTemplate.execute(status -> upsert(List.of(planned), enqueueIndex)));
+                } catch (Exception e) {
+                    log.error("스위치 동기화 실패 (행: {}): {}", planned.row.getRowNumber(), e.getMessage());
+                    progress.recordError("행 " + planned.row.getRowNumber() + " (" + planned.row.getCategory() + ") 저장 실패: " + e.getMessage());
+                    failedRows.add(planned.row);
+                }
+            }
+        }
 
-            // 이름에서 한글 분리 (예: "MX Brown(체갈)" → name: "MX Brown", korean: ["체갈"])
-            List<String> koreanFromName = new ArrayList<>();
-            String cleanedName = extractKoreanFromName(originalName, koreanFromName);
+        progress.addRowsProcessed(chunk.size());
+        progress.addDbWrites(saved.size());
+        return saved;
+    }
 
-            // JSON 기반 별명 + 이름에서 추출한 한글 합치기
-            List<String> nicknames = new ArrayList<>(switchNicknameService.getNicknames(originalName));
-            nicknames.addAll(koreanFromName);
+    /**
+     * 기존 엔티티는 findAllById 한 번으로 불러와 변경 감지로 UPDATE, 신규는 saveAll 로 INSERT
+     *
+     * @param enqueueIndex 저장된 스위치의 색인 요청을 같은 트랜잭션에서 outbox 에 기록할지 여부
+     */
+    private List<Switch> upsert(List<PlannedRow> rows, boolean enqueueIndex) {
+        List<Long> existingIds = rows.stream()
+                .map(planned -> planned.id)
+                .filter(Objects::nonNull)
+                .toList();
+        Map<Long, Switch> existing = new HashMap<>();
+        switchRepository.findAllById(existingIds).forEach(entity -> existing.put(entity.getId(), entity));
+
+        List<Switch> saved = new ArrayList<>();
+        List<Switch> created = new ArrayList<>();
+        for (PlannedRow planned : rows) {
+            SwitchSheetRow row = planned.row;
+            Switch sheetEntity = row.toEntity();
+            Switch switchEntity = planned.id != null ? existing.get(planned.id) : null;
+
+            if (switchEntity != null) {
+                // 트랜잭션 종료 시 변경 감지로 UPDATE
+                applySheetValues(switchEntity, sheetEntity);
+                switchEntity.updateSyncState(row.getRowNumber(), sheetEntity.getSheetKey(), sheetEntity.getContentHash());
+                saved.add(switchEntity);
+            } else {
+                created.add(sheetEntity);
+            }
+        }
 
-            SwitchDocument doc = SwitchDocument.builder()
-                    .id(switchEntity.getId())
-                    .name(cleanedName)
-                    .brand(switchEntity.getManufacturer())
-                    .category(switchEntity.getCategory())
-                    .nicknames(nicknames)
-                    .build();
+        saved.addAll(switchRepository.saveAll(created));
+        if (enqueueIndex) {
+            outboxRepository.saveAll(saved.stream()
+                    .map(switchEntity -> SwitchIndexOutbox.upsert(switchEntity.getId()))
+                    .toList());
+        }
+        return saved;
+    }
 
-            switchSearchRepository.save(doc);
+    /**
+     * 시트에서 사라진 스위치 삭제 (CHUNK_SIZE 단위 트랜잭션, 연결된 영상 매핑은 cascade 로 함께 삭제)
+     * 문서 삭제 요청은 같은 트랜잭션에서 outbox 에 기록
+     *
+     * @return 삭제된 스위치 ID
+     */
+    private List<Long> deleteSwitches(List<Long> ids, SwitchSyncProgress progress) {
+        List<Long> deleted = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    switchRepository.deleteAll(switchRepository.findAllById(chunk));
+                    outboxRepository.saveAll(chunk.stream().map(SwitchIndexOutbox::delete).toList());
+                });
+                deleted.addAll(chunk);
+                progress.addDbWrites(chunk.size());
+            } catch (Exception e) {
+                log.error("스위치 삭제 실패 ({}건): {}", chunk.size(), e.getMessage());
+                progress.recordError("스위치 삭제 실패 (" + chunk.size() + "건): " + e.getMessage());
+            }
+        }
+        return deleted;
+    }
 
+    private void applySheetValues(Switch target, Switch source) {
+        target.updateFromGoogleSheets(
+                source.getName(),
+                source.getType(),
+                source.getCategory(),
+                source.getWeight(),
+                source.getManufacturer(),
+                source.getPrice(),
+                source.getActuationForce(),
+                source.getBottomOutForce(),
+                source.getTravelDistance(),
+                source.getPreTravel(),
+                source.getSpringType(),
+                source.getStemMaterial(),
+                source.getHousingMaterial(),
+                source.getSoundProfile(),
+                source.getIsLubed(),
+                source.getDescription()
+        );
+    }
+
+    /**
+     * SwitchDocument 매핑을 기존 인덱스에 반영 (필드 추가만 가능, 실패해도 동기화는 계속 진행)
+     */
+    private void updateSearchMapping() {
+        try {
+            elasticsearchOperations.indexOps(SwitchDocument.class).putMapping();
         } catch (Exception e) {
-            log.error("Elasticsearch 인덱싱 실패 (ID: {}): {}", switchEntity.getId(), e.getMessage());
+            log.warn("Elasticsearch 매핑 갱신 실패: {}", e.getMessage());
         }
     }
 
     /**
-     * 스위치 이름에서 한글 토큰을 분리
-     * 예: "MX Brown(체갈)" → cleanedName: "MX Brown", koreanTokens: ["체갈"]
-     * 예: "Beary 새끼곰" → cleanedName: "Beary", koreanTokens: ["새끼곰"]
-     * 예: "Silent Red" → cleanedName: "Silent Red", koreanTokens: []
+     * 특정 탭의 행 범위만 동기화 (해당 범위만 Sheets 에서 읽어 DB 저장 + ES 색인)
+     * - 범위 안 행의 시트 키(시트 키가 없는 기존 데이터는 행 번호 + 카테고리, 이름)로 기존 스위치를 찾아 전체 동기화와 같은 방식으로 분류
+     * - 시트 키로 못 찾은 행은 같은 행 번호에 이름이 비슷한 스위치가 있으면 그대로 갱신 (이름 오타 수정이 중복 스위치를 만들지 않도록)
+     *   이름이 전혀 다르면 신규로 저장하고, 원래 스위치의 삭제는 전체 동기화에서 처리
+     *   범위 밖으로 밀려난 행은 읽지 않으므로, 행을 새로 끼워 넣었다면 전체 동기화를 사용
+     * - 호출은 SwitchSyncJobManager.syncRows 로 (전체 동기화/재색인과 겹치지 않도록)
+     * - 범위 안에서 비어 있는 행의 스위치는 삭제하지 않음 (삭제는 전체 동기화에서 처리)
+     *
+     * @param sheetTitle 탭 이름 (예: "체리(2)")
+     * @param fromRow    시작 행 번호 (1부터, 포함)
+     * @param toRow      끝 행 번호 (포함, 최대 CHUNK_SIZE 행)
+     * @return 동기화 결과
      */
-    private String extractKoreanFromName(String name, List<String> koreanTokens) {
-        if (name == null) return null;
+    public SwitchSyncResult syncSwitchRows(String sheetTitle, int fromRow, int toRow) {
+        if (fromRow < 1 || toRow < fromRow || toRow - fromRow >= CHUNK_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "행 범위는 1행부터, 한 번에 최대 " + CHUNK_SIZE + "행까지 지정할 수 있습니다.");
+        }
+        log.info("Google Sheets '{}' {}~{}행 동기화 시작", sheetTitle, fromRow, toRow);
 
-        // 특수문자를 공백으로 치환
-        String cleaned = name.replaceAll("[()\\[\\]{},/]", " ");
+        List<SwitchSheetRow> sheetRows = googleSheetsService.readSwitchRows(sheetTitle, fromRow, toRow);
+        if (sheetRows.isEmpty()) {
+            log.warn("'{}' {}~{}행에 데이터가 없습니다.", sheetTitle, fromRow, toRow);
+            return SwitchSyncResult.builder().indexFailures(List.of()).build();
+        }
 
-        String[] tokens = cleaned.split("\\s+");
-        StringBuilder englishName = new StringBuilder();
+        List<SwitchSyncKey> candidates = switchRepository.findSyncKeysForRows(
+                sheetRows.stream().map(SwitchSheetRow::sheetKey).toList(),
+                SwitchSheetRow.categoryOf(sheetTitle), fromRow, toRow,
+                sheetRows.stream().map(SwitchSheetRow::getName).filter(Objects::nonNull).toList());
+        SyncPlan plan = SyncPlan.of(sheetRows, SyncKeyIndex.of(candidates), Set.of());
+
+        SwitchSyncProgress progress = new SwitchSyncProgress();
+        List<SwitchSheetRow> failedRows = new ArrayList<>();
+        List<SwitchIndexFailure> indexFailures = new ArrayList<>();
+        int movedCount = plan.moves.isEmpty() ? 0 : saveChunk(plan.moves, failedRows, progress, false).size();
+        int insertedCount = saveRows(plan.inserts, failedRows, progress);
+        int updatedCount = saveRows(plan.updates, failedRows, progress);
+        int indexedCount = insertedCount + updatedCount > 0 ? dispatchOutbox(indexFailures, progress) : 0;
+
+        log.info("'{}' {}~{}행 동기화 완료: 신규 {}건, 변경 {}건, 이동 {}건, 변경 없음 {}건 (실패 {}행), ES 실패 {}건",
+                sheetTitle, fromRow, toRow, insertedCount, updatedCount, movedCount, plan.unchangedCount,
+                failedRows.size(), indexFailures.size());
+        if (insertedCount + updatedCount > 0) {
+            eventPublisher.publishEvent(new SwitchCatalogChangedEvent(insertedCount + updatedCount));
+        }
 
-        for (String token : tokens) {
-            if (token.isEmpty()) continue;
+        return SwitchSyncResult.builder()
+                .syncedCount(insertedCount + updatedCount + movedCount)
+                .insertedCount(insertedCount)
+                .updatedCount(updatedCount)
+                .movedCount(movedCount)
+                .unchangedCount(plan.unchangedCount)
+                .skippedRowCount(plan.skippedCount)
+                .failedRowCount(failedRows.size())
+                .indexedCount(indexedCount)
+                .indexFailures(indexFailures)
+                .build();
+    }
 
-            if (containsKorean(token)) {
-                koreanTokens.add(token);
-            } else {
-                if (!englishName.isEmpty()) englishName.append(" ");
-                englishName.append(token);
+    /**
+     * 기존 스위치 키 조회용 맵 (시트 키로 먼저 찾고, 시트 키가 없는 기존 데이터는 행 번호 + 카테고리, 이름 순으로 찾음)
+     * 한 스위치는 한 행에만 매칭되며, 끝까지 매칭되지 않은 스위치가 삭제 후보
+     */
+    private static final class SyncKeyIndex {
+
+        // 같은 행의 이름이 이만큼만 바뀌었으면 같은 스위치의 이름 수정으로 봄 (자모 단위)
+        private static final int MAX_RENAME_DISTANCE = 2;
+
+        private final Map<String, SwitchSyncKey> bySheetKey = new HashMap<>();
+        private final Map<String, SwitchSyncKey> legacyByRowAndCategory = new HashMap<>();
+        private final Map<String, SwitchSyncKey> legacyByName = new HashMap<>();
+        private final Map<String, SwitchSyncKey> byRowAndCategory = new HashMap<>();
+        private final Map<Long, SwitchSyncKey> unclaimed = new LinkedHashMap<>();
+
+        private static SyncKeyIndex of(List<SwitchSyncKey> keys) {
+            SyncKeyIndex index = new SyncKeyIndex();
+            for (SwitchSyncKey key : keys) {
+                index.unclaimed.put(key.getId(), key);
+                if (key.getGoogleSheetsRow() != null) {
+                    index.byRowAndCategory.putIfAbsent(rowKey(key.getGoogleSheetsRow(), key.getCategory()), key);
+                }
+                if (key.getSheetKey() != null) {
+                    index.bySheetKey.putIfAbsent(key.getSheetKey(), key);
+                    continue;
+                }
+                if (key.getGoogleSheetsRow() != null) {
+                    index.legacyByRowAndCategory.putIfAbsent(rowKey(key.getGoogleSheetsRow(), key.getCategory()), key);
+                }
+                if (key.getName() != null) {
+                    index.legacyByName.putIfAbsent(key.getName(), key);
+                }
             }
+            return index;
         }
 
-        return englishName.toString().trim();
-    }
+        /**
+         * 행에 해당하는 기존 스위치를 찾아 매칭 처리 (없거나 이미 다른 행에 매칭됐으면 null)
+         */
+        private SwitchSyncKey claim(SwitchSheetRow row) {
+            for (SwitchSyncKey key : new SwitchSyncKey[]{
+                    bySheetKey.get(row.sheetKey()),
+                    legacyByRowAndCategory.get(rowKey(row.getRowNumber(), row.getCategory())),
+                    legacyByName.get(row.getName())}) {
+                if (key != null && unclaimed.remove(key.getId()) != null) {
+                    return key;
+                }
+            }
+            return null;
+        }
 
-    private boolean containsKorean(String text) {
-        for (char c : text.toCharArray()) {
-            if ((c >= '\uAC00' && c <= '\uD7AF') || (c >= '\u3130' && c <= '\u318F')) {
-                return true;
+        /**
+         * 시트 키로 못 찾은 행을 같은 카테고리 + 같은 행 번호의 남은 스위치와 짝지음 (이름 오타를 고친 행)
+         * - 이름이 비슷할 때만 짝지음 (자모 단위 편집 거리 MAX_RENAME_DISTANCE 이하),
+         *   단종 스위치 행을 다른 스위치로 덮어쓴 경우는 삭제 + 신규로 처리해 ID/영상 매핑을 넘겨주지 않음
+         * - 이름이 빠진 행은 어차피 저장하지 않으므로, 그 행의 스위치가 삭제되지 않도록 그대로 짝지음
+         * 모든 행의 claim 이 끝난 뒤 호출해야, 행이 밀려 다른 행 번호에서 찾은 스위치를 가로채지 않음
+         */
+        private SwitchSyncKey claimByRow(SwitchSheetRow row) {
+            SwitchSyncKey key = byRowAndCategory.get(rowKey(row.getRowNumber(), row.getCategory()));
+            if (key == null || !unclaimed.containsKey(key.getId())) {
+                return null;
             }
+            if (row.getName() != null && !isRename(row.getName(), key.getName())) {
+                return null;
+            }
+            unclaimed.remove(key.getId());
+            return key;
+        }
+
+        private static boolean isRename(String newName, String oldName) {
+            if (oldName == null) {
+                return false;
+            }
+            return EditDistance.bounded(normalizeName(newName), normalizeName(oldName), MAX_RENAME_DISTANCE)
+                    <= MAX_RENAME_DISTANCE;
+        }
+
+        private static String normalizeName(String name) {
+            return HangulUtils.toJamo(name.trim().toLowerCase());
+        }
+
+        private static String rowKey(Integer rowNumber, String category) {
+            return rowNumber + "|" + category;
         }
-        return false;
     }
 
     /**
-     * 특정 행의 스위치 데이터만 동기화
-     * 
-     * @param rowNumber Google Sheets 행 번호
+     * 저장할 행과 매칭된 기존 스위치 ID (신규면 null)
      */
-    @Transactional
-    public void syncSwitchByRow(int rowNumber) {
-        log.info("Google Sheets 행 {} 동기화 시작", rowNumber);
-
-        List<SwitchSheetRow> sheetRows = googleSheetsService.readSwitchData();
-        Optional<SwitchSheetRow> targetRow = sheetRows.stream()
-                .filter(row -> row.getRowNumber() == rowNumber)
-                .findFirst();
-
-        if (targetRow.isEmpty()) {
-            log.warn("행 {}에 데이터가 없습니다.", rowNumber);
-            return;
-        }
-
-        SwitchSheetRow row = targetRow.get();
-        Optional<Switch> existingSwitch = switchRepository.findByGoogleSheetsRow(rowNumber);
-
-        if (existingSwitch.isPresent()) {
-            Switch switchEntity = existingSwitch.get();
-            switchEntity.updateFromGoogleSheets(
-                    row.toEntity().getName(),
-                    row.toEntity().getType(),
-                    row.toEntity().getCategory(),
-                    row.toEntity().getWeight(),
-                    row.toEntity().getManufacturer(),
-                    row.toEntity().getPrice(),
-                    row.toEntity().getActuationForce(),
-                    row.toEntity().getBottomOutForce(),
-                    row.toEntity().getTravelDistance(),
-                    row.toEntity().getPreTravel(),
-                    row.toEntity().getSpringType(),
-                    row.toEntity().getStemMaterial(),
-                    row.toEntity().getHousingMaterial(),
-                    row.toEntity().getSoundProfile(),
-                    row.toEntity().getIsLubed(),
-                    row.toEntity().getDescription()
-            );
-            switchRepository.save(switchEntity);
-            log.info("스위치 업데이트 완료: {}", switchEntity.getName());
-        } else {
-            Switch newSwitch = row.toEntity();
-            switchRepository.save(newSwitch);
-            log.info("스위치 생성 완료: {}", newSwitch.getName());
+    private static final class PlannedRow {
+
+        private final SwitchSheetRow row;
+        private final Long id;
+
+        private PlannedRow(SwitchSheetRow row, Long id) {
+            this.row = row;
+            this.id = id;
+        }
+    }
+
+    /**
+     * 시트 행과 기존 스위치 키를 비교한 동기화 계획
+     * - 같은 시트 키의 행이 여러 개면 마지막 행 기준
+     * - 필수값 누락 행도 매칭은 해서, 시트에 남아 있는 스위치가 삭제되지 않도록 함
+     * - 시트 키로 못 찾은 행은 모든 행의 매칭이 끝난 뒤 같은 카테고리 + 행 번호 + 비슷한 이름으로 한 번 더 찾고,
+     *   그래도 짝이 없는 행만 신규, 짝이 없는 스위치만 삭제
+     */
+    private static final class SyncPlan {
+
+        private final List<PlannedRow> inserts = new ArrayList<>();
+        private final List<PlannedRow> updates = new ArrayList<>();
+        private final List<PlannedRow> moves = new ArrayList<>();
+        private final List<Long> deleteIds = new ArrayList<>();
+        private int unchangedCount;
+        private int skippedCount;
+
+        private static SyncPlan of(List<SwitchSheetRow> sheetRows, SyncKeyIndex keyIndex, Set<String> deletableCategories) {
+            Map<String, SwitchSheetRow> rowsByKey = new LinkedHashMap<>();
+            for (SwitchSheetRow row : sheetRows) {
+                rowsByKey.put(row.sheetKey(), row);
+            }
+
+            SyncPlan plan = new SyncPlan();
+            List<SwitchSheetRow> unmatched = new ArrayList<>();
+            for (SwitchSheetRow row : rowsByKey.values()) {
+                SwitchSyncKey key = keyIndex.claim(row);
+                if (key == null) {
+                    unmatched.add(row);
+                } else {
+                    plan.add(row, key);
+                }
+            }
+            for (SwitchSheetRow row : unmatched) {
+                plan.add(row, keyIndex.claimByRow(row));
+            }
+            plan.skippedCount += sheetRows.size() - rowsByKey.size();
+
+            for (SwitchSyncKey key : keyIndex.unclaimed.values()) {
+                if (deletableCategories.contains(key.getCategory())) {
+                    plan.deleteIds.add(key.getId());
+                }
+            }
+            return plan;
+        }
+
+        private void add(SwitchSheetRow row, SwitchSyncKey key) {
+            if (row.getName() == null || row.getType() == null) {
+                log.warn("필수 데이터 누락으로 스킵 (행: {}): 이름 또는 타입 없음", row.getRowNumber());
+                skippedCount++;
+            } else if (key == null) {
+                inserts.add(new PlannedRow(row, null));
+            } else if (!row.contentHash().equals(key.getContentHash()) || !row.sheetKey().equals(key.getSheetKey())) {
+                updates.add(new PlannedRow(row, key.getId()));
+            } else if (!Objects.equals(row.getRowNumber(), key.getGoogleSheetsRow())) {
+                moves.add(new PlannedRow(row, key.getId()));
+            } else {
+                unchangedCount++;
+            }
         }
     }
 }
@@ -0,0 +1,26 @@
+package com.thockpick.presentation.api;
+
+import com.thockpick.application.switches.SwitchCatalogStatistics;
+import com.thockpick.domain.switches.SwitchFacets;
+import com.thockpick.global.common.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 스위치 카탈로그 통계 API 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/switches/stats")
+@RequiredArgsConstructor
+public class SwitchStatsController {
+
+    private final SwitchCatalogStatistics switchCatalogStatistics;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<SwitchFacets>> getStats() {
+        return ResponseEntity.ok(ApiResponse.success(switchCatalogStatistics.getSnapshot()));
+    }
+}
@@ -1,26 +1,68 @@
 package com.thockpick.presentation.api;
 
 import com.thockpick.global.common.ApiResponse;
-import com.thockpick.infrastructure.sync.googlesheets.service.SwitchSyncService;
+import com.thockpick.global.exception.BusinessException;
+import com.thockpick.global.exception.ErrorCode;
+import com.thockpick.infrastructure.sync.googlesheets.dto.SwitchSyncJobResponse;
+import com.thockpick.infrastructure.sync.googlesheets.dto.SwitchSyncResult;
+import com.thockpick.infrastructure.sync.googlesheets.service.SwitchSyncJob;
+import com.thockpick.infrastructure.sync.googlesheets.service.SwitchSyncJobManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.net.URI;
+
 /**
  * 스위치 동기화 API 컨트롤러
+ * - POST 는 백그라운드 작업을 시작하고 작업 ID 를 바로 반환 (진행 중이면 같은 작업 반환)
+ * - GET /{jobId} 로 진행 상황/결과 조회
+ * - POST /rows 는 한 탭의 행 범위만 바로 동기화 (오타 수정 등 소규모 변경용, 다른 작업 진행 중이면 409)
+ * - POST /reindex 는 새 버전 인덱스에 전체 재색인 후 별칭 전환 (동기화와 같은 작업 큐)
  */
 @RestController
 @RequestMapping("/api/sync/switches")
 @RequiredArgsConstructor
 public class SwitchSyncController {
 
-    private final SwitchSyncService switchSyncService;
+    private final SwitchSyncJobManager switchSyncJobManager;
 
     @PostMapping
-    public ResponseEntity<ApiResponse<Integer>> syncSwitches() {
-        int count = switchSyncService.syncAllSwitches();
-        return ResponseEntity.ok(ApiResponse.success(count));
+    public ResponseEntity<ApiResponse<SwitchSyncJobResponse>> syncSwitches() {
+        SwitchSyncJob job = switchSyncJobManager.start();
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/sync/switches/" + job.getId()))
+                .body(ApiResponse.success(SwitchSyncJobResponse.from(job)));
+    }
+
+    @PostMapping("/reindex")
+    public ResponseEntity<ApiResponse<SwitchSyncJobResponse>> reindexSwitches() {
+        SwitchSyncJob job = switchSyncJobManager.startReindex();
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/sync/switches/" + job.getId()))
+                .body(ApiResponse.success(SwitchSyncJobResponse.from(job)));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<SwitchSyncJobResponse>> getSyncJob(@PathVariable String jobId) {
+        SwitchSyncJob job = switchSyncJobManager.find(jobId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.SYNC_JOB_NOT_FOUND));
+        return ResponseEntity.ok(ApiResponse.success(SwitchSyncJobResponse.from(job)));
+    }
+
+    /**
+     * 행 범위 동기화 (예: POST /api/sync/switches/rows?tab=체리(2)&from=15&to=17, to 생략 시 한 행)
+     */
+    @PostMapping("/rows")
+    public ResponseEntity<ApiResponse<SwitchSyncResult>> syncSwitchRows(@RequestParam String tab,
+                                                                        @RequestParam int from,
+                                                                        @RequestParam(required = false) Integer to) {
+        SwitchSyncResult result = switchSyncJobManager.syncRows(tab, from, to != null ? to : from);
+        return ResponseEntity.ok(ApiResponse.success(result));
     }
 }
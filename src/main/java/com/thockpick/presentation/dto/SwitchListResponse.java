@@ -1,6 +1,6 @@
 package com.thockpick.presentation.dto;
 
-import com.thockpick.domain.switches.Switch;
+import com.thockpick.domain.switches.SwitchSummary;
 import com.thockpick.domain.switches.SwitchType;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,17 +21,17 @@ public class SwitchListResponse {
     private Integer actuationForce;
     private Integer bottomOutForce;
 
-    // 엔티티 -> DTO 변환 메서드
-    public static SwitchListResponse from(Switch switchEntity) {
+    // 요약 -> DTO 변환 메서드 (MariaDB / Elasticsearch 결과 공통)
+    public static SwitchListResponse from(SwitchSummary summary) {
         return SwitchListResponse.builder()
-                .id(switchEntity.getId())
-                .name(switchEntity.getName())
-                .type(switchEntity.getType())
-                .category(switchEntity.getCategory())
-                .manufacturer(switchEntity.getManufacturer())
-                .price(switchEntity.getPrice())
-                .actuationForce(switchEntity.getActuationForce())
-                .bottomOutForce(switchEntity.getBottomOutForce())
+                .id(summary.getId())
+                .name(summary.getName())
+                .type(summary.getType())
+                .category(summary.getCategory())
+                .manufacturer(summary.getManufacturer())
+                .price(summary.getPrice())
+                .actuationForce(summary.getActuationForce())
+                .bottomOutForce(summary.getBottomOutForce())
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.thockpick.presentation.dto;
+
+import com.thockpick.application.switches.SwitchSpec;
+import com.thockpick.application.switches.SwitchSpecFilter;
+import com.thockpick.domain.switches.SwitchType;
+import com.thockpick.global.enums.SoundProfile;
+import com.thockpick.global.exception.BusinessException;
+import com.thockpick.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * 스펙 범위 검색 요청 (쿼리 파라미터 바인딩용)
+ * 예: /switches/api/specs?type=LINEAR&actuationForceMin=35&actuationForceMax=45&priceMax=700
+ */
+@Getter
+@Setter
+public class SwitchSpecSearchRequest {
+    private SwitchType type;
+    private String manufacturer;
+    private String soundProfile;
+
+    private BigDecimal actuationForceMin;
+    private BigDecimal actuationForceMax;
+    private BigDecimal bottomOutForceMin;
+    private BigDecimal bottomOutForceMax;
+    private BigDecimal travelDistanceMin;
+    private BigDecimal travelDistanceMax;
+    private BigDecimal preTravelMin;
+    private BigDecimal preTravelMax;
+    private BigDecimal priceMin;
+    private BigDecimal priceMax;
+    private BigDecimal weightMin;
+    private BigDecimal weightMax;
+
+    public SwitchSpecFilter toFilter() {
+        return SwitchSpecFilter.builder()
+                .type(type)
+                .manufacturer(manufacturer)
+                .soundProfile(parseSoundProfile())
+                .range(SwitchSpec.ACTUATION_FORCE, SwitchSpecFilter.Range.of(actuationForceMin, actuationForceMax))
+                .range(SwitchSpec.BOTTOM_OUT_FORCE, SwitchSpecFilter.Range.of(bottomOutForceMin, bottomOutForceMax))
+                .range(SwitchSpec.TRAVEL_DISTANCE, SwitchSpecFilter.Range.of(travelDistanceMin, travelDistanceMax))
+                .range(SwitchSpec.PRE_TRAVEL, SwitchSpecFilter.Range.of(preTravelMin, preTravelMax))
+                .range(SwitchSpec.PRICE, SwitchSpecFilter.Range.of(priceMin, priceMax))
+                .range(SwitchSpec.WEIGHT, SwitchSpecFilter.Range.of(weightMin, weightMax))
+                .build();
+    }
+
+    private SoundProfile parseSoundProfile() {
+        try {
+            return SoundProfile.fromString(soundProfile);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, e.getMessage());
+        }
+    }
+}
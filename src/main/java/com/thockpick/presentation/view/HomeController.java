@@ -1,15 +1,13 @@
 package com.thockpick.presentation.view;
 
-import com.thockpick.application.switches.SwitchService;
+import com.thockpick.application.switches.SwitchCatalogStatistics;
+import com.thockpick.domain.switches.SwitchFacets;
 import com.thockpick.domain.switches.SwitchType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
-
 /**
  * 홈 화면 컨트롤러
  */
@@ -17,21 +15,15 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class HomeController {
 
-    private final SwitchService switchService;
+    private final SwitchCatalogStatistics switchCatalogStatistics;
 
     @GetMapping("/")
     public String home(Model model) {
-        // 전체 스위치 개수
-        long totalCount = switchService.countAllSwitches();
-
-        // 타입별 개수
-        Map<SwitchType, Long> typeCountMap = new LinkedHashMap<>();
-        for (SwitchType type : SwitchType.values()) {
-            typeCountMap.put(type, switchService.countByType(type));
-        }
+        // 동기화 시점에 계산해 둔 통계 스냅샷 (요청마다 COUNT 쿼리 없음)
+        SwitchFacets statistics = switchCatalogStatistics.getSnapshot();
 
-        model.addAttribute("totalCount", totalCount);
-        model.addAttribute("typeCountMap", typeCountMap);
+        model.addAttribute("totalCount", statistics.getTotal());           // 전체 스위치 개수
+        model.addAttribute("typeCountMap", statistics.getTypes());         // 타입별 개수 (enum 순서)
         model.addAttribute("types", SwitchType.values());
 
         return "index";
@@ -1,13 +1,25 @@
 package com.thockpick.presentation.view;
 
+import com.thockpick.application.switches.SimilarSwitch;
+import com.thockpick.application.switches.SwitchCursor;
 import com.thockpick.application.switches.SwitchService;
+import com.thockpick.application.switches.SwitchSimilarityIndex;
+import com.thockpick.application.switches.SwitchSpecIndex;
+import com.thockpick.application.switches.SwitchSpecResult;
+import com.thockpick.application.switches.SwitchSuggestService;
+import com.thockpick.application.switches.SwitchSuggestion;
+import com.thockpick.application.switches.SwitchTypoCorrector;
 import com.thockpick.domain.switches.Switch;
+import com.thockpick.domain.switches.SwitchFacets;
+import com.thockpick.domain.switches.SwitchSummary;
 import com.thockpick.domain.switches.SwitchType;
 import com.thockpick.presentation.dto.SwitchListResponse;
+import com.thockpick.presentation.dto.SwitchSpecSearchRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -15,6 +27,7 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -26,6 +39,10 @@ import java.util.Map;
 public class SwitchViewController {
 
     private final SwitchService switchService;
+    private final SwitchSuggestService switchSuggestService;
+    private final SwitchTypoCorrector switchTypoCorrector;
+    private final SwitchSpecIndex switchSpecIndex;
+    private final SwitchSimilarityIndex switchSimilarityIndex;
 
     /**
      * 스위치 목록 페이지
@@ -51,19 +68,21 @@ public class SwitchViewController {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "name"));
 
         // String type -> Enum 변환
-        SwitchType switchType = null;
-        if (type != null && !type.isEmpty()) {
-            try {
-                switchType = SwitchType.valueOf(type);
-            } catch (IllegalArgumentException e) {
-                // 유효하지 않은 타입 값이 오면 무시 (null로 처리하여 전체 검색)
+        SwitchType switchType = parseType(type);
+
+        // 요약 페이지 조회
+        Page<SwitchSummary> switchPage = switchService.searchSwitches(switchType, manufacturer, keyword, pageable);
+
+        // 결과가 없으면 오타 교정 후 한 번만 재검색 (예: "홀리펜다" → "홀리판다")
+        String correctedKeyword = null;
+        if (switchPage.getTotalElements() == 0 && keyword != null && !keyword.isBlank()) {
+            correctedKeyword = switchTypoCorrector.correct(keyword).orElse(null);
+            if (correctedKeyword != null) {
+                switchPage = switchService.searchSwitches(switchType, manufacturer, correctedKeyword, pageable);
             }
         }
 
-        // 엔티티 페이지 조회
-        Page<Switch> switchPage = switchService.searchSwitches(switchType, manufacturer, keyword, pageable);
-
-        // 엔티티 -> DTO 변환
+        // 요약 -> DTO 변환
         Page<SwitchListResponse> dtoPage = switchPage.map(SwitchListResponse::from);
 
         Map<String, Object> response = new HashMap<>();
@@ -73,10 +92,73 @@ public class SwitchViewController {
         response.put("totalElements", dtoPage.getTotalElements());
         response.put("hasNext", dtoPage.hasNext());
         response.put("hasPrevious", dtoPage.hasPrevious());
+        response.put("correctedKeyword", correctedKeyword);
 
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 패싯 API (Ajax용, 필터 사이드바의 타입/제조사/카테고리별 개수)
+     */
+    @GetMapping("/api/facets")
+    @ResponseBody
+    public ResponseEntity<SwitchFacets> getFacets(
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String manufacturer,
+            @RequestParam(required = false) String keyword) {
+        return ResponseEntity.ok(switchService.getFacets(parseType(type), manufacturer, keyword));
+    }
+
+    /**
+     * 스위치 목록 커서 API (무한 스크롤용, 키셋 페이지네이션)
+     * 응답의 nextCursor를 다음 요청의 cursor로 그대로 전달 (전체 개수는 계산하지 않음)
+     */
+    @GetMapping("/api/scroll")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> scrollSwitches(
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String manufacturer,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size) {
+
+        SwitchCursor after = (cursor == null || cursor.isEmpty()) ? null : SwitchCursor.decode(cursor);
+        Slice<SwitchSummary> slice = switchService.scrollSwitches(parseType(type), manufacturer, after, size);
+
+        List<SwitchSummary> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? SwitchCursor.from(content.get(content.size() - 1)).encode()
+                : null;
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("switches", content.stream().map(SwitchListResponse::from).toList());
+        response.put("nextCursor", nextCursor);
+        response.put("hasNext", slice.hasNext());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 스펙 범위 검색 API (Ajax용, 슬라이더 조작마다 호출 → 메모리 컬럼 인덱스로 응답)
+     * 예: /switches/api/specs?type=LINEAR&actuationForceMin=35&actuationForceMax=45&priceMax=700
+     */
+    @GetMapping("/api/specs")
+    @ResponseBody
+    public ResponseEntity<SwitchSpecResult> searchBySpecs(@ModelAttribute SwitchSpecSearchRequest request) {
+        return ResponseEntity.ok(switchSpecIndex.search(request.toFilter()));
+    }
+
+    /**
+     * 자동완성 API (Ajax용, 키 입력마다 호출)
+     * 예: /switches/api/suggest?q=ㄱㅊ → 갈축
+     */
+    @GetMapping("/api/suggest")
+    @ResponseBody
+    public ResponseEntity<List<SwitchSuggestion>> suggest(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(switchSuggestService.suggest(q, limit));
+    }
+
     /**
      * 스위치 상세 페이지
      */
@@ -84,6 +166,30 @@ public class SwitchViewController {
     public String switchDetail(@PathVariable Long id, Model model) {
         Switch switchEntity = switchService.findSwitchById(id);
         model.addAttribute("switch", switchEntity);
+        model.addAttribute("similarSwitches", switchSimilarityIndex.findSimilar(id, 6));
         return "switches/detail";
     }
+
+    /**
+     * 비슷한 스위치 API (동기화 시 미리 계산된 top-K 조회)
+     */
+    @GetMapping("/{id}/similar")
+    @ResponseBody
+    public ResponseEntity<List<SimilarSwitch>> similarSwitches(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(switchSimilarityIndex.findSimilar(id, limit));
+    }
+
+    // String type -> Enum 변환 (유효하지 않은 타입 값이 오면 null로 처리하여 전체 검색)
+    private SwitchType parseType(String type) {
+        if (type == null || type.isEmpty()) {
+            return null;
+        }
+        try {
+            return SwitchType.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
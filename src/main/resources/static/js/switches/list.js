@@ -11,7 +11,15 @@ const SwitchListApp = {
             type: '',
             keyword: ''
         },
-        apiUrl: ''
+        apiUrl: '',
+        suggestUrl: '',
+        suggestTimer: null,
+        scrollUrl: '',
+        // 무한 스크롤 상태 (키워드 없으면 커서, 키워드 있으면 페이지 번호로 이어서 조회)
+        infiniteScroll: false,
+        nextCursor: null,
+        hasNext: false,
+        isLoading: false
     },
 
     // DOM 요소 캐싱 (init에서 초기화)
@@ -27,6 +35,8 @@ const SwitchListApp = {
         const container = document.getElementById('switchListContainer');
         if(container) {
             this.state.apiUrl = container.dataset.apiUrl;
+            this.state.suggestUrl = container.dataset.suggestUrl;
+            this.state.scrollUrl = container.dataset.scrollUrl;
         }
 
         this.loadSwitches(0);
@@ -37,11 +47,15 @@ const SwitchListApp = {
         this.elements = {
             typeFilter: document.getElementById('typeFilter'),
             keywordFilter: document.getElementById('keywordFilter'),
+            keywordSuggestions: document.getElementById('keywordSuggestions'),
             loading: document.getElementById('loading'),
             grid: document.getElementById('switchGrid'),
             pagination: document.getElementById('pagination'),
             totalCount: document.getElementById('totalCount'),
-            noResults: document.getElementById('noResults')
+            correctedKeyword: document.getElementById('correctedKeyword'),
+            noResults: document.getElementById('noResults'),
+            infiniteScrollToggle: document.getElementById('infiniteScrollToggle'),
+            scrollSentinel: document.getElementById('scrollSentinel')
         };
     },
 
@@ -64,6 +78,55 @@ const SwitchListApp = {
         this.elements.keywordFilter.addEventListener('keypress', (e) => {
             if (e.key === 'Enter') this.searchSwitches();
         });
+
+        // 무한 스크롤 모드 전환
+        if (this.elements.infiniteScrollToggle) {
+            this.elements.infiniteScrollToggle.addEventListener('change', (e) => {
+                this.state.infiniteScroll = e.target.checked;
+                this.loadSwitches(0);
+            });
+        }
+
+        // 목록 끝이 보이면 다음 데이터 로드
+        if (this.elements.scrollSentinel && 'IntersectionObserver' in window) {
+            const observer = new IntersectionObserver((entries) => {
+                if (entries[0].isIntersecting) this.loadMore();
+            });
+            observer.observe(this.elements.scrollSentinel);
+        }
+
+        // 자동완성 (입력이 잠시 멈췄을 때만 요청)
+        this.elements.keywordFilter.addEventListener('input', () => {
+            clearTimeout(this.state.suggestTimer);
+            this.state.suggestTimer = setTimeout(() => this.loadSuggestions(), 100);
+        });
+    },
+
+    // 자동완성 목록 로드 (초성 입력 지원: "ㄱㅊ" → 갈축)
+    loadSuggestions: async function() {
+        const datalist = this.elements.keywordSuggestions;
+        const query = this.elements.keywordFilter.value.trim();
+        if (!datalist) return;
+        if (!query) {
+            datalist.innerHTML = '';
+            return;
+        }
+
+        try {
+            const targetUrl = this.state.suggestUrl || '/switches/api/suggest';
+            const response = await fetch(`${targetUrl}?${new URLSearchParams({ q: query })}`);
+            if (!response.ok) return;
+
+            const suggestions = await response.json();
+            datalist.innerHTML = '';
+            suggestions.forEach(suggestion => {
+                const option = document.createElement('option');
+                option.value = suggestion.text;
+                datalist.appendChild(option);
+            });
+        } catch (error) {
+            console.error('Error loading suggestions:', error);
+        }
     },
 
     // URL 파라미터 읽기
@@ -98,10 +161,16 @@ const SwitchListApp = {
     },
 
     // 스위치 목록 로드 (async/await 사용으로 가독성 향상)
-    loadSwitches: async function(page) {
+    loadSwitches: async function(page, append = false) {
+        // 무한 스크롤 + 키워드 없음: 커서 API 사용
+        if (this.state.infiniteScroll && !this.state.filters.keyword) {
+            return this.loadSwitchesByCursor(append);
+        }
+
         this.state.currentPage = page;
+        this.state.isLoading = true;
         this.toggleLoading(true);
-        this.elements.grid.innerHTML = '';
+        if (!append) this.elements.grid.innerHTML = '';
 
         const params = new URLSearchParams({
             page: page,
@@ -122,18 +191,79 @@ const SwitchListApp = {
 
             this.toggleLoading(false);
             this.renderSwitches(data.switches);
-            this.renderPagination(data);
+            this.state.hasNext = data.hasNext;
+            if (this.state.infiniteScroll) {
+                this.elements.pagination.innerHTML = '';
+            } else {
+                this.renderPagination(data);
+            }
             this.elements.totalCount.textContent = data.totalElements;
+            this.renderCorrectedKeyword(data.correctedKeyword);
 
-            this.elements.noResults.style.display = data.switches.length === 0 ? 'block' : 'none';
+            this.elements.noResults.style.display = (!append && data.switches.length === 0) ? 'block' : 'none';
 
         } catch (error) {
             console.error('Error loading switches:', error);
             this.toggleLoading(false);
             alert('데이터를 불러오는 중 오류가 발생했습니다.');
+        } finally {
+            this.state.isLoading = false;
         }
     },
 
+    // 오타 교정으로 재검색된 경우 안내 표시
+    renderCorrectedKeyword: function(correctedKeyword) {
+        const el = this.elements.correctedKeyword;
+        if (!el) return;
+        el.textContent = correctedKeyword ? `('${correctedKeyword}' 검색 결과)` : '';
+        el.style.display = correctedKeyword ? 'inline' : 'none';
+    },
+
+    // 커서(키셋) 기반 목록 로드 (전체 개수는 응답하지 않음)
+    loadSwitchesByCursor: async function(append) {
+        if (!append) {
+            this.state.nextCursor = null;
+            this.elements.grid.innerHTML = '';
+            this.elements.pagination.innerHTML = '';
+        }
+        this.state.isLoading = true;
+        this.toggleLoading(true);
+
+        const params = new URLSearchParams({ size: this.state.pageSize });
+        if (this.state.filters.type) params.append('type', this.state.filters.type);
+        if (this.state.nextCursor) params.append('cursor', this.state.nextCursor);
+
+        try {
+            const targetUrl = this.state.scrollUrl || '/switches/api/scroll';
+            const response = await fetch(`${targetUrl}?${params.toString()}`);
+
+            if (!response.ok) throw new Error('Network response was not ok');
+
+            const data = await response.json();
+
+            this.toggleLoading(false);
+            this.renderSwitches(data.switches);
+            this.state.nextCursor = data.nextCursor;
+            this.state.hasNext = data.hasNext;
+            this.elements.totalCount.textContent = this.elements.grid.children.length + (data.hasNext ? '+' : '');
+
+            this.elements.noResults.style.display = (!append && data.switches.length === 0) ? 'block' : 'none';
+
+        } catch (error) {
+            console.error('Error loading switches:', error);
+            this.toggleLoading(false);
+            alert('데이터를 불러오는 중 오류가 발생했습니다.');
+        } finally {
+            this.state.isLoading = false;
+        }
+    },
+
+    // 무한 스크롤: 다음 데이터 이어서 로드
+    loadMore: function() {
+        if (!this.state.infiniteScroll || this.state.isLoading || !this.state.hasNext) return;
+        this.loadSwitches(this.state.currentPage + 1, true);
+    },
+
     // 로딩 상태 토글
     toggleLoading: function(show) {
         if(this.elements.loading) {
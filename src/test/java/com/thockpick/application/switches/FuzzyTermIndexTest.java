@@ -0,0 +1,38 @@
+package com.thockpick.application.switches;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FuzzyTermIndexTest {
+
+    private final FuzzyTermIndex index = FuzzyTermIndex.build(
+            List.of("홀리판다", "Gateron", "Yellow", "Milky", "갈축", "체갈"));
+
+    @Test
+    void 한글_오타는_자모_단위_거리로_교정한다() {
+        // "펜" ↔ "판" 은 음절 단위로는 1글자지만 자모 단위로도 모음 하나 차이
+        assertThat(index.closest("홀리펜다")).isEqualTo("홀리판다");
+        assertThat(index.closest("갈측")).isEqualTo("갈축");
+    }
+
+    @Test
+    void 영문_오타는_대소문자를_무시하고_교정한다() {
+        assertThat(index.closest("yelow")).isEqualTo("Yellow");
+        assertThat(index.closest("GATERRON")).isEqualTo("Gateron");
+    }
+
+    @Test
+    void 허용_거리를_넘으면_교정하지_않는다() {
+        assertThat(index.closest("zzz")).isNull();
+        assertThat(index.closest("판다홀리")).isNull();
+    }
+
+    @Test
+    void 사전에_있는_단어는_정확히_포함된다() {
+        assertThat(index.contains("yellow")).isTrue();
+        assertThat(index.contains("yelow")).isFalse();
+    }
+}
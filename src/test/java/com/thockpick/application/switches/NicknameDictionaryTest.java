@@ -0,0 +1,42 @@
+package com.thockpick.application.switches;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NicknameDictionaryTest {
+
+    @Test
+    void 별명으로_공식_키워드를_역조회한다() {
+        NicknameDictionary shared = NicknameDictionary.compile(
+                List.of("MX Brown", "Brown"),
+                List.of(List.of("체갈", "갈축"), List.of("갈축")));
+
+        assertThat(shared.keywordsFor("갈축")).containsExactly("MX Brown", "Brown");
+        assertThat(shared.keywordsFor("체갈")).containsExactly("MX Brown");
+        assertThat(shared.keywordsFor("청축")).isEmpty();
+    }
+
+    @Test
+    void 대소문자를_무시한다() {
+        NicknameDictionary dictionary = NicknameDictionary.compile(
+                List.of("Holy Panda"), List.of(List.of("HolyP")));
+
+        assertThat(dictionary.keywordsFor("holyp")).containsExactly("Holy Panda");
+    }
+
+    @Test
+    void 키워드가_없는_규칙은_역조회하지_않고_별명만_모은다() {
+        NicknameDictionary withNull = NicknameDictionary.compile(
+                Arrays.asList(null, "Blue"),
+                List.of(List.of("무시"), List.of("청축", "클릭")));
+
+        assertThat(withNull.keywordsFor("무시")).isEmpty();
+        assertThat(withNull.keywordsFor("청축")).containsExactly("Blue");
+        assertThat(withNull.allNicknames()).containsExactly("무시", "청축", "클릭");
+        assertThat(withNull.ruleCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,95 @@
+package com.thockpick.application.switches;
+
+import com.thockpick.domain.switches.Switch;
+import com.thockpick.domain.switches.SwitchRepository;
+import com.thockpick.domain.switches.SwitchType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SwitchSimilarityIndexTest {
+
+    private final SwitchRepository switchRepository = mock(SwitchRepository.class);
+    private final SwitchSimilarityIndex index = new SwitchSimilarityIndex(switchRepository);
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+    }
+
+    @Test
+    void 스펙이_같은_스위치는_코사인_유사도_1로_가장_먼저_나온다() {
+        rebuildWith(List.of(
+                switchOf(1L, SwitchType.LINEAR, 45, "4.0", 500, "PC", "POM"),
+                switchOf(2L, SwitchType.TACTILE, 67, "3.6", 900, "Nylon", "POM"),
+                switchOf(3L, SwitchType.LINEAR, 45, "4.0", 500, "PC", "POM"),
+                switchOf(4L, SwitchType.CLICKY, 60, "3.8", 700, "Nylon", "UPE")));
+
+        List<SimilarSwitch> similar = index.findSimilar(1L, 10);
+
+        assertThat(similar.get(0).getSwitchSummary().getId()).isEqualTo(3L);
+        assertThat(similar.get(0).getSimilarity()).isCloseTo(1.0, within(1e-5));
+    }
+
+    @Test
+    void 자기_자신을_빼고_유사도_내림차순으로_반환한다() {
+        rebuildWith(List.of(
+                switchOf(1L, SwitchType.LINEAR, 45, "4.0", 500, "PC", "POM"),
+                switchOf(2L, SwitchType.LINEAR, 50, "3.8", 550, "PC", "POM"),
+                switchOf(3L, SwitchType.TACTILE, 67, "3.6", 900, "Nylon", "POM"),
+                switchOf(4L, SwitchType.CLICKY, 60, "3.2", 700, "Nylon", "UPE")));
+
+        List<SimilarSwitch> similar = index.findSimilar(1L, 10);
+
+        assertThat(similar).extracting(s -> s.getSwitchSummary().getId())
+                .doesNotContain(1L)
+                .hasSize(3)
+                .first().isEqualTo(2L);
+        assertThat(similar).isSortedAccordingTo(
+                Comparator.comparingDouble(SimilarSwitch::getSimilarity).reversed());
+    }
+
+    @Test
+    void 이웃은_TOP_K_개까지만_보관하고_limit_만큼_자른다() {
+        List<Switch> switches = new ArrayList<>();
+        for (long id = 1; id <= 15; id++) {
+            switches.add(switchOf(id, SwitchType.LINEAR, 40 + (int) id, "4.0", 500 + (int) id * 10, "PC", "POM"));
+        }
+        rebuildWith(switches);
+
+        assertThat(index.findSimilar(1L, 100)).hasSize(10);
+        assertThat(index.findSimilar(1L, 3)).hasSize(3);
+        assertThat(index.findSimilar(1L, -1)).isEmpty();
+        assertThat(index.findSimilar(99L, 10)).isEmpty();
+    }
+
+    private void rebuildWith(List<Switch> switches) {
+        when(switchRepository.findAll()).thenReturn(switches);
+        index.rebuild();
+    }
+
+    private static Switch switchOf(Long id, SwitchType type, Integer actuationForce, String travelDistance,
+                                   Integer price, String housingMaterial, String stemMaterial) {
+        Switch switchEntity = Switch.builder()
+                .name("switch-" + id)
+                .type(type)
+                .actuationForce(actuationForce)
+                .travelDistance(new BigDecimal(travelDistance))
+                .price(price)
+                .housingMaterial(housingMaterial)
+                .stemMaterial(stemMaterial)
+                .build();
+        ReflectionTestUtils.setField(switchEntity, "id", id);
+        return switchEntity;
+    }
+}
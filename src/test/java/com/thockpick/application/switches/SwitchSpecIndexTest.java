@@ -0,0 +1,106 @@
+package com.thockpick.application.switches;
+
+import com.thockpick.domain.switches.Switch;
+import com.thockpick.domain.switches.SwitchRepository;
+import com.thockpick.domain.switches.SwitchType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SwitchSpecIndexTest {
+
+    private final SwitchRepository switchRepository = mock(SwitchRepository.class);
+    private final SwitchSpecIndex index = new SwitchSpecIndex(switchRepository);
+
+    @BeforeEach
+    void setUp() {
+        // 이름순 (행 번호 = 목록 순서)
+        when(switchRepository.findAll(any(Sort.class))).thenReturn(List.of(
+                switchOf(1L, SwitchType.LINEAR, 35, "4.0", 500),
+                switchOf(2L, SwitchType.LINEAR, 45, "3.5", 700),
+                switchOf(3L, SwitchType.TACTILE, 55, "4.0", 900),
+                switchOf(4L, SwitchType.LINEAR, null, "3.8", 400)));
+        index.rebuild();
+    }
+
+    @Test
+    void 범위는_양끝을_포함하고_값이_없는_스위치는_제외한다() {
+        SwitchSpecResult result = index.search(SwitchSpecFilter.builder()
+                .type(SwitchType.LINEAR)
+                .range(SwitchSpec.ACTUATION_FORCE, SwitchSpecFilter.Range.of(new BigDecimal("35"), new BigDecimal("45")))
+                .build());
+
+        assertThat(result.getIds()).containsExactly(1L, 2L);
+        assertThat(result.getTotal()).isEqualTo(2);
+    }
+
+    @Test
+    void 히스토그램은_자기_자신의_범위_조건만_빼고_계산한다() {
+        SwitchSpecResult result = index.search(SwitchSpecFilter.builder()
+                .range(SwitchSpec.ACTUATION_FORCE, SwitchSpecFilter.Range.of(new BigDecimal("35"), new BigDecimal("45")))
+                .range(SwitchSpec.PRICE, SwitchSpecFilter.Range.of(null, new BigDecimal("600")))
+                .build());
+
+        assertThat(result.getIds()).containsExactly(1L);
+
+        // 입력압 축: 가격 조건만 적용 (1, 4번 중 값이 있는 1번만 집계), 35g 부터 5g 구간
+        SwitchSpecResult.Histogram actuation = result.getHistograms().get(SwitchSpec.ACTUATION_FORCE);
+        assertThat(actuation.getStart()).isEqualByComparingTo("35");
+        assertThat(actuation.getCounts()).containsExactly(1, 0, 0, 0, 0);
+
+        // 가격 축: 입력압 조건만 적용 (1, 2번), 400원 부터 100원 구간
+        SwitchSpecResult.Histogram price = result.getHistograms().get(SwitchSpec.PRICE);
+        assertThat(price.getStart()).isEqualByComparingTo("400");
+        assertThat(price.getCounts()).containsExactly(0, 1, 0, 1, 0, 0);
+
+        // 범위 조건이 없는 스펙은 최종 결과(1번) 기준
+        SwitchSpecResult.Histogram travel = result.getHistograms().get(SwitchSpec.TRAVEL_DISTANCE);
+        assertThat(travel.getStart()).isEqualByComparingTo("3.5");
+        assertThat(travel.getBucketWidth()).isEqualByComparingTo("0.1");
+        assertThat(travel.getCounts()).containsExactly(0, 0, 0, 0, 0, 1);
+    }
+
+    @Test
+    void 소수_경계는_최솟값은_올림_최댓값은_내림으로_맞춘다() {
+        // 3.45 ~ 3.95mm → 저장 단위 35 ~ 39 (4.0mm 는 제외)
+        assertThat(searchTravel("3.45", "3.95").getIds()).containsExactly(2L, 4L);
+        // 3.51mm → 36 부터 (3.5mm 는 제외)
+        assertThat(searchTravel("3.51", "4.0").getIds()).containsExactly(1L, 3L, 4L);
+    }
+
+    @Test
+    void 정수_범위를_넘는_경계값은_끝값으로_제한한다() {
+        SwitchSpecResult result = index.search(SwitchSpecFilter.builder()
+                .range(SwitchSpec.PRICE, SwitchSpecFilter.Range.of(new BigDecimal("-1e12"), new BigDecimal("1e12")))
+                .build());
+
+        assertThat(result.getIds()).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    private SwitchSpecResult searchTravel(String min, String max) {
+        return index.search(SwitchSpecFilter.builder()
+                .range(SwitchSpec.TRAVEL_DISTANCE, SwitchSpecFilter.Range.of(new BigDecimal(min), new BigDecimal(max)))
+                .build());
+    }
+
+    private static Switch switchOf(Long id, SwitchType type, Integer actuationForce, String travelDistance, Integer price) {
+        Switch switchEntity = Switch.builder()
+                .name("switch-" + id)
+                .type(type)
+                .actuationForce(actuationForce)
+                .travelDistance(new BigDecimal(travelDistance))
+                .price(price)
+                .build();
+        ReflectionTestUtils.setField(switchEntity, "id", id);
+        return switchEntity;
+    }
+}
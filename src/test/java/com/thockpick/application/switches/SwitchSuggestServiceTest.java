@@ -0,0 +1,76 @@
+package com.thockpick.application.switches;
+
+import com.thockpick.domain.switches.Switch;
+import com.thockpick.domain.switches.SwitchRepository;
+import com.thockpick.infrastructure.search.document.SwitchDocumentMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SwitchSuggestServiceTest {
+
+    private final SwitchRepository switchRepository = mock(SwitchRepository.class);
+    private final SwitchNicknameService switchNicknameService = mock(SwitchNicknameService.class);
+    private final SwitchSuggestService service =
+            new SwitchSuggestService(switchRepository, switchNicknameService, new SwitchDocumentMapper());
+
+    @Test
+    void 접두어로_짧은_항목부터_제안한다() {
+        rebuildWith(List.of(switchOf(1L, "Gateron Yellow")), "개옐", "개적", "갈축");
+
+        assertThat(texts(service.suggest("개", 10))).containsExactly("개옐", "개적");
+        assertThat(service.suggest("gateron", 10)).extracting(SwitchSuggestion::getSwitchId).containsExactly(1L);
+    }
+
+    @Test
+    void 초성만_입력하면_초성_키로_제안한다() {
+        rebuildWith(List.of(), "갈축", "개옐", "흑축");
+
+        assertThat(texts(service.suggest("ㄱㅊ", 10))).containsExactly("갈축");
+        assertThat(texts(service.suggest("ㄱ", 10))).containsExactly("갈축", "개옐");
+    }
+
+    @Test
+    void 완성_음절과_초성이_섞인_입력은_음절_위치가_일치하는_항목만_제안한다() {
+        rebuildWith(List.of(), "갈축", "골축", "개옐");
+
+        assertThat(texts(service.suggest("갈ㅊ", 10))).containsExactly("갈축");
+    }
+
+    @Test
+    void 초성이_섞인_입력은_초성_노드의_상위_K개_밖에_있는_항목도_찾는다() {
+        // "ㄱㅊ" 노드의 상위 20개를 "갈축" 보다 앞서 정렬되는 "가차", "가착", ... 가 모두 차지
+        Set<String> nicknames = new LinkedHashSet<>();
+        for (int i = 0; i < 30; i++) {
+            nicknames.add("가" + (char) ('차' + i));
+        }
+        nicknames.add("갈축");
+        rebuildWith(List.of(), nicknames.toArray(String[]::new));
+
+        assertThat(texts(service.suggest("갈ㅊ", 10))).containsExactly("갈축");
+        assertThat(texts(service.suggest("갈축", 10))).containsExactly("갈축");
+    }
+
+    private void rebuildWith(List<Switch> switches, String... nicknames) {
+        when(switchRepository.findAll()).thenReturn(switches);
+        when(switchNicknameService.getAllNicknames()).thenReturn(new LinkedHashSet<>(List.of(nicknames)));
+        service.rebuild();
+    }
+
+    private static List<String> texts(List<SwitchSuggestion> suggestions) {
+        return suggestions.stream().map(SwitchSuggestion::getText).toList();
+    }
+
+    private static Switch switchOf(Long id, String name) {
+        Switch switchEntity = Switch.builder().name(name).build();
+        ReflectionTestUtils.setField(switchEntity, "id", id);
+        return switchEntity;
+    }
+}
@@ -0,0 +1,71 @@
+package com.thockpick.domain.switches;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스위치 목록 조회: 엔티티 로딩 vs DTO 프로젝션 비교
+ * - 실제 DB 가 필요하므로 기본 빌드에서는 제외
+ * - 실행: BENCHMARK=true ./gradlew test --tests '*SwitchListQueryBenchmarkTest'
+ */
+@Slf4j
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class SwitchListQueryBenchmarkTest {
+
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 500;
+
+    @Autowired
+    private SwitchRepository switchRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void compareEntityAndProjection() {
+        Specification<Switch> spec = (root, query, criteriaBuilder) -> null;
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "name", "id"));
+
+        // 요청마다 새 트랜잭션(= 새 영속성 컨텍스트) 에서 실행해 실제 API 호출과 같은 조건으로 비교
+        Supplier<Page<SwitchSummary>> entityPath = () -> transactionTemplate.execute(status ->
+                switchRepository.findAll(spec, pageable).map(SwitchSummary::from));
+        Supplier<Page<SwitchSummary>> projectionPath = () -> transactionTemplate.execute(status ->
+                switchRepository.findSummaries(spec, pageable));
+
+        assertThat(projectionPath.get().getContent())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(entityPath.get().getContent());
+
+        long entityNanos = measure(entityPath);
+        long projectionNanos = measure(projectionPath);
+
+        log.info("Switch list query ({} iterations, page size {}): entity={}us/op, projection={}us/op",
+                ITERATIONS, pageable.getPageSize(),
+                entityNanos / ITERATIONS / 1_000, projectionNanos / ITERATIONS / 1_000);
+    }
+
+    private long measure(Supplier<Page<SwitchSummary>> path) {
+        for (int i = 0; i < WARMUP; i++) {
+            path.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            path.get();
+        }
+        return System.nanoTime() - start;
+    }
+}
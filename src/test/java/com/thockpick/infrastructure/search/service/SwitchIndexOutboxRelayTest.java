@@ -0,0 +1,117 @@
+package com.thockpick.infrastructure.search.service;
+
+import com.thockpick.domain.switches.SwitchIndexOutbox;
+import com.thockpick.domain.switches.SwitchIndexOutboxRepository;
+import com.thockpick.domain.switches.SwitchRepository;
+import com.thockpick.infrastructure.search.document.SwitchDocumentMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * outbox 반영 결과에 따른 삭제 / 재시도 예약 / DEAD 처리 확인
+ */
+class SwitchIndexOutboxRelayTest {
+
+    private final SwitchIndexOutboxRepository outboxRepository = mock(SwitchIndexOutboxRepository.class);
+    private final SwitchRepository switchRepository = mock(SwitchRepository.class);
+    private final SwitchBulkIndexer switchBulkIndexer = mock(SwitchBulkIndexer.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SwitchIndexOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        relay = new SwitchIndexOutboxRelay(outboxRepository, switchRepository, mock(SwitchDocumentMapper.class),
+                switchBulkIndexer, new TransactionTemplate(transactionManager), meterRegistry);
+        ReflectionTestUtils.setField(relay, "maxAttempts", 2);
+        ReflectionTestUtils.setField(relay, "initialBackoff", Duration.ofSeconds(1));
+        relay.registerMetrics();
+
+        when(outboxRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(switchRepository.findAllById(any())).thenReturn(List.of());
+    }
+
+    @Test
+    void 성공한_항목은_삭제하고_실패한_항목은_재시도를_예약한다() {
+        SwitchIndexOutbox succeeded = SwitchIndexOutbox.delete(1L);
+        SwitchIndexOutbox failed = SwitchIndexOutbox.delete(2L);
+        when(outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(any(), any(), any()))
+                .thenReturn(List.of(succeeded, failed))
+                .thenReturn(List.of());
+        when(switchBulkIndexer.delete(List.of(1L, 2L))).thenReturn(List.of(new SwitchIndexFailure("2", "timeout")));
+
+        SwitchIndexOutboxRelay.DrainResult result = relay.drainAll();
+
+        assertThat(result.getDispatchedCount()).isEqualTo(1);
+        assertThat(result.getFailures()).extracting(SwitchIndexFailure::getId).containsExactly("2");
+        verify(outboxRepository).deleteAllInBatch(List.of(succeeded));
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getStatus()).isEqualTo(SwitchIndexOutbox.Status.PENDING);
+        assertThat(failed.getLastError()).isEqualTo("timeout");
+        assertThat(meterRegistry.get("search.outbox.failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 중지된_동안은_반영하지_않고_재개하면_반영한다() {
+        SwitchIndexOutbox entry = SwitchIndexOutbox.delete(4L);
+        when(outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(any(), any(), any()))
+                .thenReturn(List.of(entry))
+                .thenReturn(List.of());
+        when(switchBulkIndexer.delete(List.of(4L))).thenReturn(List.of());
+
+        relay.pause();
+        assertThat(relay.drainAll().getEntryCount()).isZero();
+        verify(switchBulkIndexer, never()).delete(any());
+
+        relay.resume();
+        assertThat(relay.drainAll().getDispatchedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 대기_현황_지표는_반영_주기에_갱신한_값을_읽는다() {
+        when(outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(any(), any(), any()))
+                .thenReturn(List.of());
+        when(outboxRepository.countByStatus(SwitchIndexOutbox.Status.PENDING)).thenReturn(5L);
+        when(outboxRepository.countByStatus(SwitchIndexOutbox.Status.DEAD)).thenReturn(2L);
+        when(outboxRepository.findOldestPendingCreatedAt()).thenReturn(Optional.of(LocalDateTime.now().minusMinutes(1)));
+
+        relay.pause();
+        relay.drainAll();
+
+        assertThat(meterRegistry.get("search.outbox.pending").gauge().value()).isEqualTo(5);
+        assertThat(meterRegistry.get("search.outbox.dead").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("search.outbox.lag").gauge().value()).isGreaterThanOrEqualTo(60);
+        verify(outboxRepository, times(1)).countByStatus(SwitchIndexOutbox.Status.PENDING);
+        verify(outboxRepository, times(1)).findOldestPendingCreatedAt();
+    }
+
+    @Test
+    void 최대_재시도를_넘기면_DEAD_로_보관한다() {
+        SwitchIndexOutbox entry = SwitchIndexOutbox.delete(3L);
+        when(outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(any(), any(), any()))
+                .thenReturn(List.of(entry));
+        when(switchBulkIndexer.delete(List.of(3L))).thenReturn(List.of(new SwitchIndexFailure("3", "rejected")));
+
+        relay.drainAll();
+        relay.drainAll();
+
+        assertThat(entry.getAttempts()).isEqualTo(2);
+        assertThat(entry.getStatus()).isEqualTo(SwitchIndexOutbox.Status.DEAD);
+    }
+}
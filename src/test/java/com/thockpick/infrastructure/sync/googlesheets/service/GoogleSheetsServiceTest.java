@@ -0,0 +1,126 @@
+package com.thockpick.infrastructure.sync.googlesheets.service;
+
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.api.services.sheets.v4.Sheets;
+import com.thockpick.infrastructure.sync.googlesheets.dto.SwitchSheetRow;
+import com.thockpick.infrastructure.sync.googlesheets.dto.SwitchSheetSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sheets HTTP API 를 로컬 스텁(MockHttpTransport)으로 대체해 요청 횟수와 파싱 결과 확인
+ */
+class GoogleSheetsServiceTest {
+
+    private static final String SPREADSHEET = "{\"sheets\":[" +
+            "{\"properties\":{\"title\":\"체리(2)\"}}," +
+            "{\"properties\":{\"title\":\"시트 읽는 법\"}}," +
+            "{\"properties\":{\"title\":\"HMX(1)\"}}]}";
+
+    private static final String CHERRY_VALUES = "[[\"스위치 이름\",\"스위치 타입\"],[\"MX Red\",\"LINEAR\"],[\"MX Brown\",\"TACTILE\"]]";
+    private static final String GUIDE_VALUES = "[[\"안내\"]]";
+    private static final String HMX_VALUES = "[[\"스위치 이름\",\"스위치 타입\"],[\"Cloud\",\"LINEAR\"]]";
+
+    private final List<String> requestedUrls = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 모든_탭을_batchGet_한_번으로_읽는다() throws Exception {
+        Sheets sheets = stubSheets(Map.of(
+                "values:batchGet", "{\"valueRanges\":[" +
+                        "{\"values\":" + CHERRY_VALUES + "}," +
+                        "{\"values\":" + GUIDE_VALUES + "}," +
+                        "{\"values\":" + HMX_VALUES + "}]}"));
+
+        List<SwitchSheetRow> rows = service(sheets).readSwitchData();
+
+        assertThat(rows).extracting(SwitchSheetRow::getName).containsExactly("MX Red", "MX Brown", "Cloud");
+        assertThat(rows).extracting(SwitchSheetRow::getCategory).containsExactly("체리", "체리", "HMX");
+        assertThat(requestedUrls).hasSize(2); // 탭 목록 1회 + batchGet 1회
+        assertThat(meterRegistry.get("google.sheets.requests")
+                .tag("operation", "values.batchGet").tag("outcome", "success")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void batchGet_이_실패하면_탭별로_조회하고_실패한_탭만_건너뛴다() throws Exception {
+        Sheets sheets = stubSheets(Map.of(
+                "values:batchGet", "!500",
+                "values/'체리(2)'", "{\"values\":" + CHERRY_VALUES + "}",
+                "values/'시트 읽는 법'", "!500",
+                "values/'HMX(1)'", "{\"values\":" + HMX_VALUES + "}"));
+
+        SwitchSheetSnapshot snapshot = service(sheets).readSwitchSnapshot();
+
+        assertThat(snapshot.getRows()).extracting(SwitchSheetRow::getName).containsExactly("MX Red", "MX Brown", "Cloud");
+        assertThat(snapshot.getCompleteCategories()).containsExactlyInAnyOrder("체리", "HMX"); // 읽지 못한 탭 제외
+        assertThat(meterRegistry.get("google.sheets.requests")
+                .tag("operation", "values.get").tag("outcome", "error")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 행_범위는_헤더_탐색_범위와_함께_한_번에_읽는다() throws Exception {
+        Sheets sheets = stubSheets(Map.of(
+                "values:batchGet", "{\"valueRanges\":[" +
+                        "{\"values\":[[\"체리 스위치 목록\"],[\"스위치 이름\",\"스위치 타입\"],[\"MX Red\",\"LINEAR\"]]}," +
+                        "{\"values\":[[\"MX Black\",\"LINEAR\"],[\"\"],[\"MX Blue\",\"CLICKY\"]]}]}"));
+
+        List<SwitchSheetRow> rows = service(sheets).readSwitchRows("체리(2)", 4, 6);
+
+        assertThat(rows).extracting(SwitchSheetRow::getName).containsExactly("MX Black", "MX Blue");
+        assertThat(rows).extracting(SwitchSheetRow::getRowNumber).containsExactly(4, 6);
+        assertThat(requestedUrls).hasSize(1);
+        String decodedUrl = URLDecoder.decode(requestedUrls.get(0), StandardCharsets.UTF_8);
+        assertThat(decodedUrl).contains("'체리(2)'!A1:Z30", "'체리(2)'!A4:Z6");
+    }
+
+    private GoogleSheetsService service(Sheets sheets) {
+        GoogleSheetsService service = new GoogleSheetsService(sheets, meterRegistry);
+        ReflectionTestUtils.setField(service, "spreadsheetId", "sheet-id");
+        ReflectionTestUtils.setField(service, "range", "A:Z");
+        return service;
+    }
+
+    /**
+     * (디코딩된) URL 에 포함된 문자열로 응답 선택 ("!500" 은 서버 오류), 나머지는 탭 목록 응답
+     */
+    private Sheets stubSheets(Map<String, String> responses) {
+        MockHttpTransport transport = new MockHttpTransport() {
+            @Override
+            public LowLevelHttpRequest buildRequest(String method, String url) {
+                requestedUrls.add(url);
+                String decodedUrl = URLDecoder.decode(url, StandardCharsets.UTF_8);
+                String body = responses.entrySet().stream()
+                        .filter(entry -> decodedUrl.contains(entry.getKey()))
+                        .map(Map.Entry::getValue)
+                        .findFirst()
+                        .orElse(SPREADSHEET);
+
+                MockLowLevelHttpResponse response = new MockLowLevelHttpResponse().setContentType("application/json");
+                if (body.equals("!500")) {
+                    response.setStatusCode(500).setContent("{\"error\":{\"code\":500,\"message\":\"stub\"}}");
+                } else {
+                    response.setContent(body);
+                }
+                return new MockLowLevelHttpRequest(url).setResponse(response);
+            }
+        };
+        return new Sheets.Builder(transport, GsonFactory.getDefaultInstance(), null)
+                .setApplicationName("test")
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.thockpick.infrastructure.sync.googlesheets.service;
+
+import com.thockpick.global.exception.BusinessException;
+import com.thockpick.global.exception.ErrorCode;
+import com.thockpick.infrastructure.search.service.SwitchReindexService;
+import com.thockpick.infrastructure.sync.googlesheets.dto.SwitchSyncResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 동기화 작업 단일 실행 / 합류 확인
+ */
+class SwitchSyncJobManagerTest {
+
+    private final SwitchSyncService switchSyncService = mock(SwitchSyncService.class);
+    private final SwitchReindexService switchReindexService = mock(SwitchReindexService.class);
+    private final SwitchSyncJobManager manager = new SwitchSyncJobManager(switchSyncService, switchReindexService);
+
+    @AfterEach
+    void tearDown() {
+        manager.shutdown();
+    }
+
+    @Test
+    void 실행_중에_들어온_요청은_같은_작업에_합류한다() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(switchSyncService.syncAllSwitches(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return SwitchSyncResult.builder().syncedCount(3).indexFailures(List.of()).build();
+        });
+
+        SwitchSyncJob first = manager.start();
+        SwitchSyncJob second = manager.start();
+        assertThat(second).isSameAs(first);
+        assertThatThrownBy(manager::startReindex) // 다른 종류의 작업은 겹치지 않고 거절
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.SYNC_JOB_ALREADY_RUNNING);
+        assertThat(first.getStatus()).isEqualTo(SwitchSyncJob.Status.RUNNING);
+
+        release.countDown();
+        awaitFinished(first);
+
+        assertThat(first.getStatus()).isEqualTo(SwitchSyncJob.Status.COMPLETED);
+        assertThat(first.getResult().getSyncedCount()).isEqualTo(3);
+        verify(switchSyncService, times(1)).syncAllSwitches(any());
+        verify(switchReindexService, never()).reindex(any());
+
+        // 끝난 뒤의 요청은 새 작업
+        SwitchSyncJob third = manager.start();
+        assertThat(third.getId()).isNotEqualTo(first.getId());
+        awaitFinished(third);
+        assertThat(manager.find(first.getId())).contains(first);
+    }
+
+    @Test
+    void 동기화_예외는_작업_실패로_기록된다() throws Exception {
+        when(switchSyncService.syncAllSwitches(any())).thenThrow(new IllegalStateException("sheets down"));
+
+        SwitchSyncJob job = manager.start();
+        awaitFinished(job);
+
+        assertThat(job.getStatus()).isEqualTo(SwitchSyncJob.Status.FAILED);
+        assertThat(job.getFailureMessage()).isEqualTo("sheets down");
+        assertThat(job.getProgress().getErrors()).containsExactly("sheets down");
+    }
+
+    @Test
+    void 작업이_진행_중이면_행_범위_동기화를_거절한다() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(switchSyncService.syncAllSwitches(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return SwitchSyncResult.builder().indexFailures(List.of()).build();
+        });
+
+        SwitchSyncJob job = manager.start();
+        assertThatThrownBy(() -> manager.syncRows("체리(2)", 2, 2))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.SYNC_JOB_ALREADY_RUNNING);
+        verify(switchSyncService, never()).syncSwitchRows(any(), anyInt(), anyInt());
+
+        release.countDown();
+        awaitFinished(job);
+        manager.syncRows("체리(2)", 2, 2);
+        verify(switchSyncService).syncSwitchRows("체리(2)", 2, 2);
+    }
+
+    @Test
+    void Error_로_끝난_작업도_실패로_기록되어_다음_요청을_막지_않는다() throws Exception {
+        when(switchSyncService.syncAllSwitches(any()))
+                .thenThrow(new OutOfMemoryError("heap"))
+                .thenReturn(SwitchSyncResult.builder().indexFailures(List.of()).build());
+
+        SwitchSyncJob failed = manager.start();
+        awaitFinished(failed);
+        assertThat(failed.getStatus()).isEqualTo(SwitchSyncJob.Status.FAILED);
+
+        SwitchSyncJob next = manager.start();
+        assertThat(next.getId()).isNotEqualTo(failed.getId());
+        awaitFinished(next);
+        assertThat(next.getStatus()).isEqualTo(SwitchSyncJob.Status.COMPLETED);
+    }
+
+    private void awaitFinished(SwitchSyncJob job) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (job.isRunning() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
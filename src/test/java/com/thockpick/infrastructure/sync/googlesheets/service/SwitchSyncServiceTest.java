@@ -0,0 +1,188 @@
+package com.thockpick.infrastructure.sync.googlesheets.service;
+
+import com.thockpick.domain.switches.Switch;
+import com.thockpick.domain.switches.SwitchIndexOutboxRepository;
+import com.thockpick.domain.switches.SwitchRepository;
+import com.thockpick.domain.switches.SwitchSyncKey;
+import com.thockpick.infrastructure.search.service.SwitchBulkIndexer;
+import com.thockpick.infrastructure.search.service.SwitchIndexOutboxRelay;
+import com.thockpick.infrastructure.sync.googlesheets.dto.SwitchSheetRow;
+import com.thockpick.infrastructure.sync.googlesheets.dto.SwitchSheetSnapshot;
+import com.thockpick.infrastructure.sync.googlesheets.dto.SwitchSyncResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 시트 행과 기존 스위치의 매칭 (이름 변경 / 행 이동 / 삭제 판단) 확인
+ */
+class SwitchSyncServiceTest {
+
+    private final GoogleSheetsService googleSheetsService = mock(GoogleSheetsService.class);
+    private final SwitchRepository switchRepository = mock(SwitchRepository.class);
+    private final SwitchIndexOutboxRelay outboxRelay = mock(SwitchIndexOutboxRelay.class);
+    private final Map<Long, Switch> stored = new HashMap<>();
+    private SwitchSyncService service;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        service = new SwitchSyncService(googleSheetsService, switchRepository,
+                mock(SwitchIndexOutboxRepository.class), outboxRelay, mock(SwitchBulkIndexer.class),
+                mock(ElasticsearchOperations.class), mock(ApplicationEventPublisher.class),
+                new TransactionTemplate(transactionManager));
+
+        when(outboxRelay.drainAll()).thenReturn(new SwitchIndexOutboxRelay.DrainResult());
+        when(switchRepository.findAllById(any())).thenAnswer(invocation -> {
+            List<Switch> found = new ArrayList<>();
+            for (Object id : (Collection<?>) invocation.getArgument(0)) {
+                if (stored.containsKey(id)) found.add(stored.get(id));
+            }
+            return found;
+        });
+        when(switchRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<Switch> saved = new ArrayList<>();
+            ((Iterable<Switch>) invocation.getArgument(0)).forEach(saved::add);
+            return saved;
+        });
+    }
+
+    @Test
+    void 이름을_고친_행은_같은_행_번호의_스위치를_그대로_갱신한다() {
+        SwitchSheetRow typo = row(2, "MX Reed");
+        SwitchSheetRow brown = row(3, "MX Brown");
+        store(7L, typo);
+        store(8L, brown);
+        givenSheet(row(2, "MX Red"), brown);
+
+        SwitchSyncResult result = service.syncAllSwitches(new SwitchSyncProgress());
+
+        assertThat(result.getUpdatedCount()).isEqualTo(1);
+        assertThat(result.getInsertedCount()).isZero();
+        assertThat(result.getDeletedCount()).isZero();
+        assertThat(stored.get(7L).getName()).isEqualTo("MX Red");
+        assertThat(stored.get(7L).getSheetKey()).isEqualTo("체리|mx red");
+        verify(switchRepository, never()).deleteAll(any());
+    }
+
+    @Test
+    void 행이_밀린_스위치는_시트_키로_찾고_빈_행_번호는_새_행에_내주지_않는다() {
+        SwitchSheetRow red = row(2, "MX Red");
+        store(7L, red);
+        givenSheet(row(2, "MX Black"), row(3, "MX Red"));
+
+        SwitchSyncResult result = service.syncAllSwitches(new SwitchSyncProgress());
+
+        assertThat(result.getMovedCount()).isEqualTo(1);
+        assertThat(result.getInsertedCount()).isEqualTo(1);
+        assertThat(stored.get(7L).getName()).isEqualTo("MX Red");
+        assertThat(stored.get(7L).getGoogleSheetsRow()).isEqualTo(3);
+    }
+
+    @Test
+    void 다른_스위치로_덮어쓴_행은_기존_스위치를_삭제하고_신규로_저장한다() {
+        store(7L, row(2, "MX Red"));
+        givenSheet(row(2, "Holy Panda"));
+
+        SwitchSyncResult result = service.syncAllSwitches(new SwitchSyncProgress());
+
+        assertThat(result.getInsertedCount()).isEqualTo(1);
+        assertThat(result.getUpdatedCount()).isZero();
+        assertThat(result.getDeletedCount()).isEqualTo(1);
+        assertThat(stored.get(7L).getName()).isEqualTo("MX Red");
+        verify(switchRepository).deleteAll(List.of(stored.get(7L)));
+    }
+
+    @Test
+    void 짝이_없는_스위치만_삭제한다() {
+        store(7L, row(2, "MX Red"));
+        store(8L, row(5, "MX Clear"));
+        givenSheet(row(2, "MX Red"));
+
+        SwitchSyncResult result = service.syncAllSwitches(new SwitchSyncProgress());
+
+        assertThat(result.getDeletedCount()).isEqualTo(1);
+        verify(switchRepository).deleteAll(List.of(stored.get(8L)));
+    }
+
+    @Test
+    void 행_범위_동기화도_이름을_고친_행은_같은_스위치를_갱신한다() {
+        store(7L, row(2, "MX Reed"));
+        when(googleSheetsService.readSwitchRows("체리(2)", 2, 2)).thenReturn(List.of(row(2, "MX Red")));
+        when(switchRepository.findSyncKeysForRows(any(), any(), any(), any(), any())).thenReturn(syncKeys());
+
+        SwitchSyncResult result = service.syncSwitchRows("체리(2)", 2, 2);
+
+        assertThat(result.getUpdatedCount()).isEqualTo(1);
+        assertThat(result.getInsertedCount()).isZero();
+        assertThat(stored.get(7L).getName()).isEqualTo("MX Red");
+    }
+
+    @Test
+    void 행_범위_동기화는_다른_스위치로_덮어쓴_행을_기존_스위치에_합치지_않는다() {
+        store(7L, row(2, "MX Red"));
+        when(googleSheetsService.readSwitchRows("체리(2)", 2, 2)).thenReturn(List.of(row(2, "Holy Panda")));
+        when(switchRepository.findSyncKeysForRows(any(), any(), any(), any(), any())).thenReturn(syncKeys());
+
+        SwitchSyncResult result = service.syncSwitchRows("체리(2)", 2, 2);
+
+        assertThat(result.getInsertedCount()).isEqualTo(1);
+        assertThat(result.getUpdatedCount()).isZero();
+        assertThat(stored.get(7L).getName()).isEqualTo("MX Red");
+        verify(switchRepository, never()).deleteAll(any());
+    }
+
+    private void givenSheet(SwitchSheetRow... rows) {
+        when(googleSheetsService.readSwitchSnapshot(any()))
+                .thenReturn(new SwitchSheetSnapshot(List.of(rows), Set.of("체리")));
+        when(switchRepository.findAllSyncKeys()).thenReturn(syncKeys());
+    }
+
+    private void store(Long id, SwitchSheetRow row) {
+        Switch switchEntity = row.toEntity();
+        ReflectionTestUtils.setField(switchEntity, "id", id);
+        stored.put(id, switchEntity);
+    }
+
+    private List<SwitchSyncKey> syncKeys() {
+        return stored.values().stream().map(SwitchSyncServiceTest::syncKey).toList();
+    }
+
+    private static SwitchSheetRow row(int rowNumber, String name) {
+        return SwitchSheetRow.builder()
+                .rowNumber(rowNumber)
+                .name(name)
+                .type("LINEAR")
+                .category("체리")
+                .build();
+    }
+
+    private static SwitchSyncKey syncKey(Switch switchEntity) {
+        return new SwitchSyncKey() {
+            public Long getId() { return switchEntity.getId(); }
+            public Integer getGoogleSheetsRow() { return switchEntity.getGoogleSheetsRow(); }
+            public String getCategory() { return switchEntity.getCategory(); }
+            public String getName() { return switchEntity.getName(); }
+            public String getSheetKey() { return switchEntity.getSheetKey(); }
+            public String getContentHash() { return switchEntity.getContentHash(); }
+        };
+    }
+}